@@ -1,12 +1,15 @@
 package com.gnome.gnome;
 
 import com.gnome.gnome.config.EditorLogger;
+import com.gnome.gnome.dao.DaoExecutor;
+import com.gnome.gnome.dao.MapStorageMigration;
 import com.gnome.gnome.dao.MonsterDAO;
 import com.gnome.gnome.db.DatabaseWrapper;
 import com.gnome.gnome.loginRegistration.controller.LoginRegistrationController;
 import com.gnome.gnome.music.MusicWizard;
 import com.gnome.gnome.switcher.switcherPage.SwitchPage;
 import com.gnome.gnome.switcher.switcherPage.component.SceneSwitch;
+import com.gnome.gnome.userState.UserState;
 import com.gnome.gnome.utils.ImageParser;
 import com.gnome.gnome.utils.InternetMonitor;
 import javafx.application.Application;
@@ -19,7 +22,6 @@ import lombok.Getter;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.sql.Connection;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
@@ -54,6 +56,9 @@ public class MainApplication extends Application {
 
         boolean skipLogging = properties.get("skip_logging");
 
+        if (!skip_db && (properties.get("migrate_map_storage") || properties.get("clear_legacy_map_text")))
+            migrateMapStorage(properties.get("clear_legacy_map_text"));
+
 
         FXMLLoader fxmlLoader = getFxmlLoader(skipLogging);
         Parent root = fxmlLoader.load();
@@ -92,7 +97,9 @@ public class MainApplication extends Application {
             throw new RuntimeException("Could not load properties file", e);
         }
         return Map.of("skip_logging", Boolean.parseBoolean(properties.getProperty("app.skip_login")),
-                "skip_db", Boolean.parseBoolean(properties.getProperty("app.skip_db")));
+                "skip_db", Boolean.parseBoolean(properties.getProperty("app.skip_db")),
+                "migrate_map_storage", Boolean.parseBoolean(properties.getProperty("app.migrate_map_storage")),
+                "clear_legacy_map_text", Boolean.parseBoolean(properties.getProperty("app.clear_legacy_map_text")));
     }
 
 
@@ -120,8 +127,7 @@ public class MainApplication extends Application {
     private void connect_db() {
         if (!skip_db) {
             try {
-                Connection conn = DatabaseWrapper.getInstance().getConnection();
-                if (conn != null) {
+                if (!DatabaseWrapper.getInstance().isClosed()) {
                     System.out.println("✅ Database connection successful!");
                     internetMonitor.start();
                 } else {
@@ -135,13 +141,40 @@ public class MainApplication extends Application {
     }
 
 
+    /**
+     * Admin step that brings the Maps table to the binary map format, see {@link MapStorageMigration}.
+     * The schema change runs right away so every query can read {@code map_data}, legacy text rows are
+     * converted in the background. Their text is only cleared when {@code clearLegacyText} is set,
+     * which must wait until no client reading {@code map_string} is in use any more.
+     *
+     * @param clearLegacyText whether to drop the text of converted maps afterwards
+     */
+    private void migrateMapStorage(boolean clearLegacyText) {
+        try {
+            MapStorageMigration migration = new MapStorageMigration();
+            migration.ensureSchema();
+            DaoExecutor.runAsync(() -> {
+                migration.convertLegacyMaps();
+                if (clearLegacyText) migration.clearLegacyText();
+            }).exceptionally(e -> {
+                System.err.println("❌ Map storage migration failed: " + e.getMessage());
+                return null;
+            });
+        } catch (Exception e) {
+            System.err.println("❌ Map storage migration failed: " + e.getMessage());
+        }
+    }
+
+
     @Override
     public void stop() {
        if (internetMonitor != null)
            internetMonitor.stop();
 
-       if (!skip_db)
+       if (!skip_db) {
+           UserState.getInstance().shutdown();
            DatabaseWrapper.getInstance().close();
+       }
 
        MusicWizard.stop_music();
     }
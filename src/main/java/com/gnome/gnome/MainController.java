@@ -217,6 +217,7 @@ public class MainController {
      */
     @FXML
     public void onExitButtonClick(ActionEvent event) {
+        UserState.getInstance().flush();
         pageSwitch.goLogin(mainBorderPane);
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.gnome.gnome.components;
 
 import com.gnome.gnome.MainApplication;
 import com.gnome.gnome.MainController;
+import com.gnome.gnome.dao.DaoExecutor;
 import com.gnome.gnome.dao.userDAO.AuthUserDAO;
 import com.gnome.gnome.dao.userDAO.UserGameStateDAO;
 import com.gnome.gnome.dao.userDAO.UserSession;
@@ -21,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -44,6 +46,8 @@ public class LeaderBoardView extends VBox {
     private int currentPage = 1;
     private final int pageSize = 100;
     private boolean loading = false;
+    /** Incremented per load so a page arriving after the list was reset is dropped */
+    private int loadGeneration = 0;
     private final MainController parentController;
     private PageSwitcherInterface pageSwitch;
     private final AuthUserDAO userDAO = new AuthUserDAO();
@@ -186,30 +190,55 @@ public class LeaderBoardView extends VBox {
         });
     }
 
+    /**
+     * One loaded page of users; the game states are only fetched along with the first page.
+     */
+    private record Page(List<AuthUser> users, Map<String, UserGameState> gameStates) {}
+
     /**
      * Loads additional users from the database and appends them to the ListView.
-     * This method supports paginated loading.
+     * This method supports paginated loading. The queries run off the FX thread and
+     * the list fills in once they return.
      */
     private void loadMoreItems() {
         loading = true;
+        int generation = ++loadGeneration;
         logger.fine("Loading more leaderboard items...");
 
         int offset = (currentPage - 1) * pageSize;
-        List<AuthUser> users = userDAO.getUsersByPage(offset, pageSize);
+        CompletableFuture<List<AuthUser>> users = DaoExecutor.supplyAsync(() -> userDAO.getUsersByPage(offset, pageSize));
+        CompletableFuture<Map<String, UserGameState>> gameStates = allUsers == null
+                ? DaoExecutor.supplyAsync(() -> userGameStateDAO.getAllUserGameStates().stream()
+                        .collect(Collectors.toMap(UserGameState::getUsername, u -> u)))
+                : CompletableFuture.completedFuture(null);
+
+        DaoExecutor.onFxThread(users.thenCombine(gameStates, Page::new),
+                page -> {
+                    if (generation == loadGeneration) showPage(page);
+                },
+                e -> {
+                    if (generation == loadGeneration) loading = false;
+                });
+    }
+
+    private void showPage(Page page) {
+        List<AuthUser> users = page.users();
 
         if (allUsers == null) {
             allUsers = users;
             filteredUsers = users;
-
-            List<UserGameState> allGameStates = userGameStateDAO.getAllUserGameStates();
-            userGameStatesByUsername = allGameStates.stream()
-                    .collect(Collectors.toMap(UserGameState::getUsername, u -> u));
+            userGameStatesByUsername = page.gameStates();
         } else {
             allUsers.addAll(users);
             filteredUsers = allUsers;
         }
 
-        updateListView(filteredUsers);
+        // the "only my" filter may have been selected while the page was loading
+        if (toggleGroup.getSelectedToggle() == onlyMyRadioButton) {
+            filterOnlyMyUser();
+        } else {
+            updateListView(filteredUsers);
+        }
 
         if (!users.isEmpty()) {
             currentPage++;
@@ -224,6 +253,7 @@ public class LeaderBoardView extends VBox {
      * @param query the text to filter usernames by.
      */
     private void filterList(String query) {
+        if (allUsers == null) return;
         filteredUsers = allUsers.stream()
                 .filter(user -> user.getUsername().toLowerCase().contains(query.toLowerCase()))
                 .collect(Collectors.toList());
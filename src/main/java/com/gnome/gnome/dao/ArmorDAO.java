@@ -53,17 +53,15 @@ public class ArmorDAO extends BaseDAO<Armor> {
                     armor.getNameEng(), armor.getNameSk(), armor.getDetailsEng(), armor.getDetailsSk(), armor.getImg());
 
             if (rowsAffected == 1) {
-                ResultSet generatedKeys = db.executeQuery("SELECT LASTVAL()");
-                if (generatedKeys.next()) {
-                    int generatedId = generatedKeys.getInt(1);
+                Integer generatedId = db.queryOne("SELECT LASTVAL()", rs -> rs.getInt(1));
+                if (generatedId != null) {
                     armor.setId(generatedId); // Update the armor object with the new ID
                 }
-                closeResultSet(generatedKeys); // Ensure resource is closed
             }
 
             db.commitTransaction();
             return armor;
-        } catch (SQLException | DataAccessException e) {
+        } catch (DataAccessException e) {
             db.rollBackTransaction();
             throw new DataAccessException("Failed to insert armor", e);
         }
@@ -89,8 +87,7 @@ public class ArmorDAO extends BaseDAO<Armor> {
      */
     public Armor getArmorById(int id) {
         String sql = "SELECT * FROM \"Armor\" WHERE id = ?";
-        List<Armor> armors = findAll(sql, id);
-        return armors.isEmpty() ? null : armors.get(0);
+        return findOne(sql, id);
     }
 
     /**
@@ -102,8 +99,7 @@ public class ArmorDAO extends BaseDAO<Armor> {
      */
     public Armor getArmorByNameEng(String nameEng) {
         String sql = "SELECT * FROM \"Armor\" WHERE name_eng = ?";
-        List<Armor> armors = findAll(sql, nameEng);
-        return armors.isEmpty() ? null : armors.get(0);
+        return findOne(sql, nameEng);
     }
 
     /**
@@ -116,19 +112,4 @@ public class ArmorDAO extends BaseDAO<Armor> {
         String sql = "SELECT * FROM \"Armor\"";
         return findAll(sql);
     }
-
-    /**
-     * Closes the ResultSet to free resources.
-     *
-     * @param rs the ResultSet to close
-     */
-    private void closeResultSet(ResultSet rs) {
-        if (rs != null) {
-            try {
-                rs.close();
-            } catch (SQLException e) {
-                // ignore; this is cleanup
-            }
-        }
-    }
 }
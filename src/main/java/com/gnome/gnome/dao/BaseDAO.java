@@ -5,7 +5,6 @@ import com.gnome.gnome.exceptions.DataAccessException;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -27,7 +26,7 @@ public abstract class BaseDAO<T> {
 
     /**
      * Retrieves all objects matching the given SQL query and parameters.
-     * The caller is responsible for closing the ResultSet if needed.
+     * The statement is reused from the connection's cache and the result set is closed before returning.
      *
      * @param query  the SQL query to execute
      * @param params the parameters to bind to the query
@@ -35,19 +34,19 @@ public abstract class BaseDAO<T> {
      * @throws DataAccessException if data fetching fails
      */
     public List<T> findAll(String query, Object... params) {
-        List<T> results = new ArrayList<>();
-        ResultSet rs = null;
-        try {
-            rs = DatabaseWrapper.getInstance().executeQuery(query, params);
-            while (rs.next()) {
-                results.add(mapResultSet(rs));
-            }
-        } catch (SQLException e) {
-            throw new DataAccessException("Error fetching data for query: " + query, e);
-        } finally {
-            closeResultSet(rs);
-        }
-        return results;
+        return DatabaseWrapper.getInstance().query(query, this::mapResultSet, params);
+    }
+
+    /**
+     * Retrieves the first object matching the given SQL query and parameters.
+     *
+     * @param query  the SQL query to execute
+     * @param params the parameters to bind to the query
+     * @return the mapped first row, or null if nothing matched
+     * @throws DataAccessException if data fetching fails
+     */
+    public T findOne(String query, Object... params) {
+        return DatabaseWrapper.getInstance().queryOne(query, this::mapResultSet, params);
     }
 
     /**
@@ -60,19 +59,4 @@ public abstract class BaseDAO<T> {
     public int executeUpdate(String query, Object... params) {
         return DatabaseWrapper.getInstance().executeUpdate(query, params);
     }
-
-    /**
-     * Closes the ResultSet to free resources.
-     *
-     * @param rs the ResultSet to close
-     */
-    private void closeResultSet(ResultSet rs) {
-        if (rs != null) {
-            try {
-                rs.close();
-            } catch (SQLException e) {
-                // ignore; this is cleanup
-            }
-        }
-    }
-}
\ No newline at end of file
+}
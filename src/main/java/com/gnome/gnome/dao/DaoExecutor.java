@@ -0,0 +1,89 @@
+package com.gnome.gnome.dao;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs DAO calls off the JavaFX application thread.
+ * <p>
+ * Every call gets its own virtual thread, so a screen can fire several queries at once without sizing a
+ * thread pool; the real limit is the connection pool of {@link com.gnome.gnome.db.DatabaseWrapper}, on which
+ * waiting virtual threads park cheaply. Transactions still work because a DAO method runs entirely on the
+ * virtual thread that started it.
+ * </p>
+ * <p>
+ * Controllers start the query with {@link #supplyAsync(Supplier)} and hand the result back to the UI with
+ * {@link #onFxThread(CompletableFuture, Consumer, Consumer)}, so the screen renders first and fills in once
+ * the data arrives.
+ * </p>
+ */
+public final class DaoExecutor {
+    private static final Logger logger = Logger.getLogger(DaoExecutor.class.getName());
+
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private DaoExecutor() {
+    }
+
+    /**
+     * Runs a query on a virtual thread.
+     *
+     * @param query the DAO call to run
+     * @param <R>   the result type
+     * @return a future completed with the query result, or exceptionally with the thrown exception
+     */
+    public static <R> CompletableFuture<R> supplyAsync(Supplier<R> query) {
+        return CompletableFuture.supplyAsync(query, EXECUTOR);
+    }
+
+    /**
+     * Runs an update on a virtual thread.
+     *
+     * @param update the DAO call to run
+     * @return a future completed once the update finished
+     */
+    public static CompletableFuture<Void> runAsync(Runnable update) {
+        return CompletableFuture.runAsync(update, EXECUTOR);
+    }
+
+    /**
+     * Delivers the outcome of a DAO future on the JavaFX application thread via {@link Platform#runLater}.
+     * Failures are logged and, if {@code onError} is given, passed to it unwrapped.
+     *
+     * @param future    the running DAO call
+     * @param onSuccess receives the result on the FX thread
+     * @param onError   receives the failure on the FX thread; may be {@code null}
+     * @param <R>       the result type
+     * @return the given future, for chaining
+     */
+    public static <R> CompletableFuture<R> onFxThread(CompletableFuture<R> future,
+                                                      Consumer<? super R> onSuccess,
+                                                      Consumer<Throwable> onError) {
+        future.whenComplete((result, error) -> Platform.runLater(() -> {
+            if (error == null) {
+                onSuccess.accept(result);
+                return;
+            }
+            Throwable cause = unwrap(error);
+            logger.log(Level.WARNING, "Database call failed", cause);
+            if (onError != null) onError.accept(cause);
+        }));
+        return future;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+}
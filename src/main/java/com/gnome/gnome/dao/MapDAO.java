@@ -3,18 +3,35 @@ package com.gnome.gnome.dao;
 import com.gnome.gnome.db.DatabaseWrapper;
 import com.gnome.gnome.exceptions.DataAccessException;
 import com.gnome.gnome.models.Map;
+import com.gnome.gnome.models.MapSummary;
+import com.gnome.gnome.utils.MapCodec;
 import com.gnome.gnome.utils.MapParser;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.List;
 
 public class MapDAO extends BaseDAO<Map> {
 
+    /** Every column except the map grid, for listings */
+    private static final String SUMMARY_COLUMNS =
+            "map_id, username, score_val, map_name_eng, map_name_sk, level, times_played, times_completed";
+
     private final DatabaseWrapper db = DatabaseWrapper.getInstance();
 
     /**
-     * Maps a ResultSet row to a Map object, converting the map_string to a 2D ArrayList.
+     * Columns of a full map. The legacy text is only selected for rows without the binary grid,
+     * so converted maps do not ship both forms.
+     */
+    private static String mapColumns() {
+        return MapStorageMigration.hasBinaryColumn()
+                ? SUMMARY_COLUMNS + ", map_data, CASE WHEN map_data IS NULL THEN map_string END AS map_string"
+                : SUMMARY_COLUMNS + ", map_string";
+    }
+
+    /**
+     * Maps a ResultSet row to a Map object, decoding the map grid to a 2D int array.
      *
      * @param rs the ResultSet containing the map data
      * @return the mapped Map object
@@ -25,7 +42,27 @@ public class MapDAO extends BaseDAO<Map> {
         return new Map(
                 rs.getInt("map_id"),
                 rs.getString("username"),
-                MapParser.convertStringToMap(rs.getString("map_string")),
+                readMapData(rs),
+                rs.getInt("score_val"),
+                rs.getString("map_name_eng"),
+                rs.getString("map_name_sk"),
+                rs.getInt("level"),
+                rs.getInt("times_played"),
+                rs.getInt("times_completed")
+        );
+    }
+
+    /**
+     * Maps a ResultSet row of {@link #SUMMARY_COLUMNS} to a MapSummary object.
+     *
+     * @param rs the ResultSet containing the map metadata
+     * @return the mapped MapSummary object
+     * @throws SQLException if mapping fails
+     */
+    private static MapSummary mapSummary(ResultSet rs) throws SQLException {
+        return new MapSummary(
+                rs.getInt("map_id"),
+                rs.getString("username"),
                 rs.getInt("score_val"),
                 rs.getString("map_name_eng"),
                 rs.getString("map_name_sk"),
@@ -35,31 +72,68 @@ public class MapDAO extends BaseDAO<Map> {
         );
     }
 
+    /**
+     * Reads the map grid from the binary {@code map_data} column, falling back to the legacy
+     * {@code map_string} text for rows that were not converted yet or databases without the column,
+     * see {@link MapStorageMigration}.
+     *
+     * @param rs the ResultSet positioned on a Maps row
+     * @return the map grid
+     * @throws SQLException if the columns cannot be read or hold an invalid map
+     */
+    private static int[][] readMapData(ResultSet rs) throws SQLException {
+        try {
+            byte[] mapData = hasColumn(rs, "map_data") ? rs.getBytes("map_data") : null;
+            if (mapData != null) {
+                return MapCodec.decode(mapData);
+            }
+            return MapParser.convertStringToMap(rs.getString("map_string"));
+        } catch (IllegalArgumentException e) {
+            throw new SQLException("Invalid map data in map " + rs.getInt("map_id"), e);
+        }
+    }
+
+    private static boolean hasColumn(ResultSet rs, String column) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            if (column.equalsIgnoreCase(meta.getColumnName(i))) return true;
+        }
+        return false;
+    }
+
     /**
      * Inserts a new Map into the database within a transaction and retrieves the generated ID.
-     * The map data is converted to a string before storage.
+     * The map data is stored as text for older clients and, once the column exists, also in the binary
+     * format of {@link MapCodec}. After the legacy text was cleared only the binary form is written.
      *
      * @param map the Map object to insert
      * @throws DataAccessException if the insertion fails
      */
     public void insertMap(Map map, Boolean isStory ) {
+        boolean binary = MapStorageMigration.hasBinaryColumn();
+        boolean textCleared = MapStorageMigration.isLegacyTextCleared();
+        String mapString = textCleared ? null : MapParser.convertMapToString(map.getMapData());
         try {
             db.beginTransaction();
-            String mapString = MapParser.convertMapToString(map.getMapData());
-
-            String sql = "";
 
-            if (isStory){
-                sql = "INSERT INTO \"Maps\" (username, map_string, score_val, map_name_eng, map_name_sk, level) " +
+            int rowsAffected;
+            if (textCleared) {
+                String sql = "INSERT INTO \"Maps\" (username, map_data, score_val, map_name_eng, map_name_sk, level) " +
                         "VALUES (?, ?, ?, ?, ?, ?)";
+                rowsAffected = executeUpdate(sql, map.getUsername(), MapCodec.encode(map.getMapData()),
+                        map.getScoreVal(), map.getMapNameEng(), map.getMapNameSk(), map.getLevel());
+            } else if (binary) {
+                String sql = "INSERT INTO \"Maps\" (username, map_string, map_data, score_val, map_name_eng, map_name_sk, level) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+                rowsAffected = executeUpdate(sql, map.getUsername(), mapString, MapCodec.encode(map.getMapData()),
+                        map.getScoreVal(), map.getMapNameEng(), map.getMapNameSk(), map.getLevel());
             } else {
-                sql = "INSERT INTO \"Maps\" (username, map_string, score_val, map_name_eng, map_name_sk, level) " +
+                String sql = "INSERT INTO \"Maps\" (username, map_string, score_val, map_name_eng, map_name_sk, level) " +
                         "VALUES (?, ?, ?, ?, ?, ?)";
+                rowsAffected = executeUpdate(sql, map.getUsername(), mapString,
+                        map.getScoreVal(), map.getMapNameEng(), map.getMapNameSk(), map.getLevel());
             }
 
-            int rowsAffected = executeUpdate(sql, map.getUsername(), mapString, map.getScoreVal(),
-                    map.getMapNameEng(), map.getMapNameSk(), map.getLevel());
-
             if (rowsAffected != 1) {
                 throw new SQLException("Failed to insert map; no rows affected.");
             }
@@ -80,9 +154,8 @@ public class MapDAO extends BaseDAO<Map> {
      * @throws DataAccessException if retrieval fails
      */
     public Map getMapById(int id) {
-        String sql = "SELECT * FROM \"Maps\" WHERE map_id = ?";
-        List<Map> maps = findAll(sql, id);
-        return maps.isEmpty() ? null : maps.getFirst();
+        String sql = "SELECT " + mapColumns() + " FROM \"Maps\" WHERE map_id = ?";
+        return findOne(sql, id);
     }
 
     /**
@@ -93,101 +166,88 @@ public class MapDAO extends BaseDAO<Map> {
      * @throws DataAccessException if retrieval fails
      */
     public Map getMapByLevel(int level) {
-        String sql = "SELECT * FROM \"Maps\" WHERE level = ?";
-        List<Map> maps = findAll(sql, level);
-        return maps.isEmpty() ? null : maps.getFirst();
+        String sql = "SELECT " + mapColumns() + " FROM \"Maps\" WHERE level = ?";
+        return findOne(sql, level);
     }
 
     /**
-     * Retrieves all Maps from the database created by the specified username.
+     * Retrieves a Map from the database by its name (either map_name_eng or map_name_sk).
      *
-     * @param username the username of the map creator
-     * @return a list of Map objects created by the user
+     * @param mapName the name of the map to retrieve (English or Slovak)
+     * @return the Map object, or null if not found
      * @throws DataAccessException if retrieval fails
      */
-    public List<Map> getMapsByUsername(String username) {
-        String sql = "SELECT * FROM \"Maps\" WHERE username = ?";
-        return findAll(sql, username);
-    }
-
-    public List<Map> getMapsByUsernameOrdered(String username) {
-        String sql = "SELECT * FROM \"Maps\" WHERE username = ? ORDER BY times_completed DESC, times_played";
-        return findAll(sql, username);
+    public Map getMapByName(String mapName) {
+        String sql = "SELECT " + mapColumns() + " FROM \"Maps\" WHERE map_name_eng = ? OR map_name_sk = ?";
+        return findOne(sql, mapName, mapName);
     }
 
     /**
-     * Retrieves a Map from the database by its name (either map_name_eng or map_name_sk).
+     * Retrieves one random non-story Map, including its grid.
      *
-     * @param mapName the name of the map to retrieve (English or Slovak)
-     * @return the Map object, or null if not found
+     * @return a Map with level = 0, or null if there is none
      * @throws DataAccessException if retrieval fails
      */
-    public Map getMapByName(String mapName) {
-        String sql = "SELECT * FROM \"Maps\" WHERE map_name_eng = ? OR map_name_sk = ?";
-        List<Map> maps = findAll(sql, mapName, mapName);
-        return maps.isEmpty() ? null : maps.get(0);
+    public Map getRandomMap() {
+        String sql = "SELECT " + mapColumns() + " FROM \"Maps\" WHERE level = 0 ORDER BY RANDOM() LIMIT 1";
+        return findOne(sql);
     }
 
     /**
-     * Retrieves all level Maps from the database.
+     * Retrieves the highest story level stored in the database.
      *
-     * @return a list of all Map objects, which has the level > 0, where each map's data is parsed into a 2D int array
+     * @return the highest level, or null if there are no maps
      * @throws DataAccessException if retrieval fails
      */
-    public List<Map> getAllLevelMaps() {
-        String sql = "SELECT * FROM \"Maps\" WHERE level > 0 ORDER BY level";
-        return findAll(sql);
+    public Integer getMaxLevel() {
+        String sql = "SELECT MAX(level) FROM \"Maps\"";
+        return db.queryOne(sql, rs -> (Integer) rs.getObject(1));
     }
 
-
     /**
-     * Retrieves the last level of the map story.
+     * Retrieves the summaries of all Maps created by the specified username.
      *
-     * @return a list of all Map objects, which has the level > 0, where each map's data is parsed into a 2D int array
+     * @param username the username of the map creator
+     * @return a list of MapSummary objects created by the user
      * @throws DataAccessException if retrieval fails
      */
-    public List<Map> getMapsOrderedByLevelDesc() {
-        String sql = "SELECT * FROM \"Maps\" ORDER BY level DESC";
-        return findAll(sql);
+    public List<MapSummary> getMapSummariesByUsername(String username) {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM \"Maps\" WHERE username = ?";
+        return db.query(sql, MapDAO::mapSummary, username);
     }
 
-
     /**
-     * Retrieves the all not story maps in random sequence.
+     * Retrieves the summaries of all Maps created by the specified username, most completed first.
      *
-     * @return a list of all Map objects, which has the level = 0, where each map's data is parsed into a 2D int array
+     * @param username the username of the map creator
+     * @return a list of MapSummary objects created by the user
      * @throws DataAccessException if retrieval fails
      */
-    public List<Map> getMapsOrderedByRandom() {
-        String sql = "SELECT * FROM \"Maps\" WHERE level = 0 ORDER BY RANDOM()";
-        return findAll(sql);
+    public List<MapSummary> getMapSummariesByUsernameOrdered(String username) {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM \"Maps\" WHERE username = ? ORDER BY times_completed DESC, times_played";
+        return db.query(sql, MapDAO::mapSummary, username);
     }
 
-
     /**
-     * Retrieves all Maps from the database.
+     * Retrieves the summaries of all story Maps.
      *
-     * @return a list of all Map objects, where each map's data is parsed into a 2D int array
+     * @return a list of MapSummary objects with level > 0, ordered by level
      * @throws DataAccessException if retrieval fails
      */
-    public List<Map> getAllMaps() {
-        String sql = "SELECT * FROM \"Maps\"";
-        return findAll(sql);
+    public List<MapSummary> getLevelMapSummaries() {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM \"Maps\" WHERE level > 0 ORDER BY level";
+        return db.query(sql, MapDAO::mapSummary);
     }
 
     /**
-     * Closes the ResultSet to free resources.
+     * Retrieves the summaries of all Maps.
      *
-     * @param rs the ResultSet to close
+     * @return a list of all MapSummary objects
+     * @throws DataAccessException if retrieval fails
      */
-    private void closeResultSet(ResultSet rs) {
-        if (rs != null) {
-            try {
-                rs.close();
-            } catch (SQLException e) {
-                // ignore; this is cleanup
-            }
-        }
+    public List<MapSummary> getAllMapSummaries() {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM \"Maps\"";
+        return db.query(sql, MapDAO::mapSummary);
     }
 
     /**
@@ -222,14 +282,36 @@ public class MapDAO extends BaseDAO<Map> {
 
 
     /**
-     * Updates the map string representation in the database for the given map.
+     * Updates the stored map grid in the database for the given map.
      *
      * @param map the map object containing updated map data
      */
     public void updateMap(Map map) {
-        String mapString = MapParser.convertMapToString(map.getMapData());
-        String sql = "UPDATE \"Maps\" SET map_string = ? WHERE map_id = ?";
-        executeUpdate(sql, mapString, map.getId());
+        updateMapData(map.getId(), map.getMapData());
+    }
+
+    /**
+     * Replaces the stored grid of a map, e.g. from the editor where only the map's summary was loaded.
+     * Like {@link #insertMap} it writes the text for older clients and the binary form once the column exists,
+     * and only the binary form once the legacy text was cleared.
+     *
+     * @param mapId   the ID of the map to update
+     * @param mapData the new map grid
+     */
+    public void updateMapData(int mapId, int[][] mapData) {
+        if (MapStorageMigration.isLegacyTextCleared()) {
+            String sql = "UPDATE \"Maps\" SET map_data = ?, map_string = NULL WHERE map_id = ?";
+            executeUpdate(sql, MapCodec.encode(mapData), mapId);
+            return;
+        }
+        String mapString = MapParser.convertMapToString(mapData);
+        if (MapStorageMigration.hasBinaryColumn()) {
+            String sql = "UPDATE \"Maps\" SET map_string = ?, map_data = ? WHERE map_id = ?";
+            executeUpdate(sql, mapString, MapCodec.encode(mapData), mapId);
+        } else {
+            String sql = "UPDATE \"Maps\" SET map_string = ? WHERE map_id = ?";
+            executeUpdate(sql, mapString, mapId);
+        }
     }
 
 
@@ -0,0 +1,139 @@
+package com.gnome.gnome.dao;
+
+import com.gnome.gnome.db.DatabaseWrapper;
+import com.gnome.gnome.exceptions.DataAccessException;
+import com.gnome.gnome.utils.MapCodec;
+import com.gnome.gnome.utils.MapParser;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Moves the Maps table from the legacy text column {@code map_string} to the binary {@code map_data}
+ * column written by {@link MapCodec}.
+ * <p>
+ * The move is split into steps so clients that only know {@code map_string} keep working while it runs:
+ * <ol>
+ *   <li>{@link #ensureSchema()} adds the bytea column and {@link #convertLegacyMaps()} fills it for every row
+ *   that only has text. The text stays in place.</li>
+ *   <li>While both columns exist {@link MapDAO} writes both, and reads {@code map_data} when it is set;
+ *   the text is only fetched for rows without it.</li>
+ *   <li>Once no client reads {@code map_string} any more, {@link #clearLegacyText()} makes the column
+ *   nullable and drops the text of every converted row. From then on clients only write {@code map_data}.</li>
+ * </ol>
+ * All steps are admin actions enabled in {@code app.properties}; a regular client never changes the schema.
+ * </p>
+ */
+public class MapStorageMigration {
+    private static final Logger logger = Logger.getLogger(MapStorageMigration.class.getName());
+
+    private static final int BATCH_SIZE = 50;
+
+    private final DatabaseWrapper db = DatabaseWrapper.getInstance();
+
+    /** Whether {@code map_data} exists, looked up once per run; {@code null} until then */
+    private static volatile Boolean binaryColumn;
+    /** Whether {@code map_string} is nullable, i.e. {@link #clearLegacyText()} has run; {@code null} until looked up */
+    private static volatile Boolean legacyTextCleared;
+
+    private record LegacyRow(int id, String mapString) {}
+
+    /**
+     * @return whether the Maps table already has the {@code map_data} column
+     * @throws DataAccessException if the schema cannot be read
+     */
+    public static boolean hasBinaryColumn() {
+        Boolean known = binaryColumn;
+        if (known == null) {
+            known = Boolean.TRUE.equals(DatabaseWrapper.getInstance().queryOne(
+                    "SELECT EXISTS (SELECT 1 FROM information_schema.columns WHERE table_name = 'Maps' AND column_name = 'map_data')",
+                    rs -> rs.getBoolean(1)));
+            binaryColumn = known;
+        }
+        return known;
+    }
+
+    /**
+     * @return whether the legacy text step has run, after which clients only write {@code map_data}
+     * @throws DataAccessException if the schema cannot be read
+     */
+    public static boolean isLegacyTextCleared() {
+        Boolean known = legacyTextCleared;
+        if (known == null) {
+            known = hasBinaryColumn() && "YES".equals(DatabaseWrapper.getInstance().queryOne(
+                    "SELECT is_nullable FROM information_schema.columns WHERE table_name = 'Maps' AND column_name = 'map_string'",
+                    rs -> rs.getString(1)));
+            legacyTextCleared = known;
+        }
+        return known;
+    }
+
+    /**
+     * Adds {@code map_data} if needed. {@code map_string} is left untouched.
+     *
+     * @throws DataAccessException if the schema cannot be changed
+     */
+    public void ensureSchema() {
+        if (!hasBinaryColumn()) {
+            logger.info("Adding map_data column to Maps");
+            db.executeUpdate("ALTER TABLE \"Maps\" ADD COLUMN IF NOT EXISTS map_data bytea");
+            binaryColumn = true;
+        }
+    }
+
+    /**
+     * Drops the text of every map that is stored in {@code map_data}, making {@code map_string} nullable first.
+     * Only run this once every client in use reads {@code map_data}; older clients fail on maps without text.
+     *
+     * @return the number of maps whose text was cleared
+     * @throws DataAccessException if the schema or the rows cannot be changed
+     */
+    public int clearLegacyText() {
+        if (!hasBinaryColumn()) return 0;
+
+        if (!isLegacyTextCleared()) {
+            logger.info("Making map_string of Maps nullable");
+            db.executeUpdate("ALTER TABLE \"Maps\" ALTER COLUMN map_string DROP NOT NULL");
+            legacyTextCleared = true;
+        }
+
+        int cleared = db.executeUpdate(
+                "UPDATE \"Maps\" SET map_string = NULL WHERE map_data IS NOT NULL AND map_string IS NOT NULL");
+        if (cleared > 0) logger.info("Cleared legacy text of " + cleared + " maps");
+        return cleared;
+    }
+
+    /**
+     * Fills {@code map_data} of every map still stored only as text, keeping the text for older clients.
+     * Rows whose text cannot be parsed are logged and left as they are.
+     *
+     * @return the number of converted maps
+     */
+    public int convertLegacyMaps() {
+        int converted = 0;
+        int lastId = Integer.MIN_VALUE;
+        while (true) {
+            List<LegacyRow> batch = db.query(
+                    "SELECT map_id, map_string FROM \"Maps\" WHERE map_data IS NULL AND map_string IS NOT NULL " +
+                            "AND map_id > ? ORDER BY map_id LIMIT ?",
+                    rs -> new LegacyRow(rs.getInt("map_id"), rs.getString("map_string")),
+                    lastId, BATCH_SIZE);
+            if (batch.isEmpty()) break;
+
+            for (LegacyRow row : batch) {
+                lastId = row.id();
+                try {
+                    byte[] mapData = MapCodec.encode(MapParser.convertStringToMap(row.mapString()));
+                    converted += db.executeUpdate(
+                            "UPDATE \"Maps\" SET map_data = ? WHERE map_id = ? AND map_data IS NULL",
+                            mapData, row.id());
+                } catch (IllegalArgumentException e) {
+                    logger.log(Level.WARNING, "Cannot convert map " + row.id() + ", keeping its text", e);
+                }
+            }
+        }
+        if (converted > 0) logger.info("Converted " + converted + " maps to binary storage");
+        return converted;
+    }
+}
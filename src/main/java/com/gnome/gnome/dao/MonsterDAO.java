@@ -78,8 +78,7 @@ public class MonsterDAO extends BaseDAO<Monster> {
      */
     public Monster getMonsterById(int id) {
         String sql = "SELECT * FROM \"Monsters\" WHERE id = ?";
-        List<Monster> monsters = findAll(sql, id);
-        return monsters.isEmpty() ? null : monsters.get(0);
+        return findOne(sql, id);
     }
 
     /**
@@ -91,8 +90,7 @@ public class MonsterDAO extends BaseDAO<Monster> {
      */
     public Monster getMonsterByNameEng(String nameEng) {
         String sql = "SELECT * FROM \"Monsters\" WHERE name_eng = ?";
-        List<Monster> monsters = findAll(sql, nameEng);
-        return monsters.isEmpty() ? null : monsters.get(0);
+        return findOne(sql, nameEng);
     }
 
     /**
@@ -52,17 +52,15 @@ public class PotionDAO extends BaseDAO<Potion> {
                     potion.getNameEng(), potion.getNameSk(), potion.getDetailsEng(), potion.getDetailsSk(), potion.getImg1(), potion.getImg2());
 
             if (rowsAffected == 1) {
-                ResultSet generatedKeys = db.executeQuery("SELECT LASTVAL()");
-                if (generatedKeys.next()) {
-                    int generatedId = generatedKeys.getInt(1);
+                Integer generatedId = db.queryOne("SELECT LASTVAL()", rs -> rs.getInt(1));
+                if (generatedId != null) {
                     potion.setId(generatedId); // Update the potion object with the new ID
                 }
-                closeResultSet(generatedKeys); // Ensure resource is closed
             }
 
             db.commitTransaction();
             return potion;
-        } catch (SQLException | DataAccessException e) {
+        } catch (DataAccessException e) {
             db.rollBackTransaction();
             throw new DataAccessException("Failed to insert potion", e);
         }
@@ -88,8 +86,7 @@ public class PotionDAO extends BaseDAO<Potion> {
      */
     public Potion getPotionById(int id) {
         String sql = "SELECT * FROM \"Potion\" WHERE id = ?";
-        List<Potion> potions = findAll(sql, id);
-        return potions.isEmpty() ? null : potions.get(0);
+        return findOne(sql, id);
     }
 
     /**
@@ -102,19 +99,4 @@ public class PotionDAO extends BaseDAO<Potion> {
         String sql = "SELECT * FROM \"Potion\"";
         return findAll(sql);
     }
-
-    /**
-     * Closes the ResultSet to free resources.
-     *
-     * @param rs the ResultSet to close
-     */
-    private void closeResultSet(ResultSet rs) {
-        if (rs != null) {
-            try {
-                rs.close();
-            } catch (SQLException e) {
-                // Silently ignore; this is cleanup
-            }
-        }
-    }
 }
\ No newline at end of file
@@ -72,8 +72,7 @@ public class UserStatisticsDAO extends BaseDAO<UserStatistics> {
      */
     public UserStatistics getUserStatisticsByUsername(String username) {
         String sql = "SELECT * FROM \"UserStatistics\" WHERE username = ?";
-        List<UserStatistics> stats = findAll(sql, username);
-        return stats.isEmpty() ? null : stats.get(0);
+        return findOne(sql, username);
     }
 
     /**
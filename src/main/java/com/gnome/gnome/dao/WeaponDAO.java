@@ -51,18 +51,15 @@ public class WeaponDAO extends BaseDAO<Weapon> {
                     weapon.getNameSk(), weapon.getDetailsEng(), weapon.getDetailsSk(), weapon.getImg());
 
             if (rowsAffected == 1) {
-                // Retrieve the generated ID (assuming PostgreSQL or similar with LASTVAL)
-                ResultSet generatedKeys = db.executeQuery("SELECT LASTVAL()");
-                if (generatedKeys.next()) {
-                    int generatedId = generatedKeys.getInt(1);
+                Integer generatedId = db.queryOne("SELECT LASTVAL()", rs -> rs.getInt(1));
+                if (generatedId != null) {
                     weapon.setId(generatedId); // Update the weapon object with the new ID
                 }
-                closeResultSet(generatedKeys); // Ensure resource is closed
             }
 
             db.commitTransaction();
             return weapon;
-        } catch (SQLException e) {
+        } catch (DataAccessException e) {
             db.rollBackTransaction();
             throw new DataAccessException("Failed to insert weapon", e);
         }
@@ -88,8 +85,7 @@ public class WeaponDAO extends BaseDAO<Weapon> {
      */
     public Weapon getWeaponById(int id) {
         String sql = "SELECT * FROM \"Weapon\" WHERE id = ?";
-        List<Weapon> weapons = findAll(sql, id);
-        return weapons.isEmpty() ? null : weapons.get(0);
+        return findOne(sql, id);
     }
 
     /**
@@ -105,8 +101,7 @@ public class WeaponDAO extends BaseDAO<Weapon> {
      */
     public Weapon getWeaponByNameEng(String nameEng) {
         String sql = "SELECT * FROM \"Weapon\" WHERE name_eng = ?";
-        List<Weapon> weapons = findAll(sql, nameEng);
-        return weapons.isEmpty() ? null : weapons.get(0);
+        return findOne(sql, nameEng);
     }
 
     /**
@@ -119,19 +114,4 @@ public class WeaponDAO extends BaseDAO<Weapon> {
         String sql = "SELECT * FROM \"Weapon\"";
         return findAll(sql);
     }
-
-    /**
-     * Closes the ResultSet to free resources.
-     *
-     * @param rs the ResultSet to close
-     */
-    private void closeResultSet(ResultSet rs) {
-        if (rs != null) {
-            try {
-                rs.close();
-            } catch (SQLException e) {
-                // ignore; this is cleanup
-            }
-        }
-    }
 }
\ No newline at end of file
@@ -63,8 +63,7 @@ public class AuthUserDAO extends BaseDAO<AuthUser> {
     public AuthUser getAuthUserByUsername(String username) {
         try {
             String sql = "SELECT username, password, role FROM \"Users\" WHERE username = ?";
-            List<AuthUser> authUsers = findAll(sql, username);
-            return authUsers.isEmpty() ? null : authUsers.get(0);
+            return findOne(sql, username);
         } catch (Exception e) {
             System.out.println("Error connection to DB");
         }
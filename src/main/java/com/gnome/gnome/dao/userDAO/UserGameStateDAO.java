@@ -76,8 +76,7 @@ public class UserGameStateDAO extends BaseDAO<UserGameState> {
      */
     public UserGameState getUserGameStateByUsername(String username) {
         String sql = "SELECT username, balance, health, score, death_counter, map_level, weapon_id, potion_id, armor_id FROM \"Users\" WHERE username = ?";
-        List<UserGameState> userGameStates = findAll(sql, username);
-        return userGameStates.isEmpty() ? null : userGameStates.get(0);
+        return findOne(sql, username);
     }
 
     /**
@@ -0,0 +1,329 @@
+package com.gnome.gnome.db;
+
+import com.gnome.gnome.exceptions.DataAccessException;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded pool of JDBC connections.
+ * <p>
+ * At most {@code maxSize} physical connections exist at once. A connection is
+ * {@link #borrow() borrowed} for one statement or one transaction and {@link #release(Connection) released}
+ * right after, so the FX thread, loader executors and background saves each work on their own connection
+ * instead of sharing one. When every connection is in use, borrowers wait up to {@code maxWaitMillis}.
+ * </p>
+ * <p>
+ * Idle connections are validated before being handed out if they sat unused for longer than
+ * {@link #VALIDATION_INTERVAL_MILLIS}, and closed once idle for longer than {@code idleTimeoutMillis}.
+ * Released connections are reset to auto-commit, rolling back anything left uncommitted.
+ * </p>
+ * <p>
+ * Every physical connection carries its own {@link StatementCache}, which lives and dies with it.
+ * </p>
+ */
+public class ConnectionPool {
+    private static final Logger logger = Logger.getLogger(ConnectionPool.class.getName());
+
+    /** Connections idle for less than this are trusted without a round trip to the server */
+    private static final long VALIDATION_INTERVAL_MILLIS = 5_000;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    /**
+     * Snapshot of the pool counters.
+     *
+     * @param active        connections currently borrowed
+     * @param idle          open connections waiting in the pool
+     * @param maxSize       maximum number of open connections
+     * @param borrows       successful borrows since the pool was created
+     * @param timeouts      borrows that gave up after the maximum wait
+     * @param totalWaitNanos time borrowers spent waiting for a free connection
+     * @param maxWaitNanos  longest single wait
+     * @param statementHits   prepared statements reused from a {@link StatementCache}, approximate
+     * @param statementMisses prepared statements that had to be prepared, approximate
+     */
+    public record PoolStats(int active, int idle, int maxSize, long borrows, long timeouts,
+                            long totalWaitNanos, long maxWaitNanos, long statementHits, long statementMisses) {}
+
+    private record IdleConnection(Connection connection, long idleSince) {}
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxSize;
+    private final long maxWaitMillis;
+    private final long idleTimeoutMillis;
+    private final int statementCacheSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Deque<IdleConnection> idle = new ArrayDeque<>();
+    private final Map<Connection, Boolean> active = new IdentityHashMap<>();
+    private final Map<Connection, StatementCache> statementCaches = Collections.synchronizedMap(new IdentityHashMap<>());
+    /**
+     * Connections taken from {@link #idle} or being opened that are not in {@link #active} yet, counted against
+     * {@link #maxSize} so no other borrower opens a connection while they are validated or opened outside the lock
+     */
+    private int reserved = 0;
+    private boolean closed = false;
+
+    private long borrows, timeouts, totalWaitNanos, maxWaitNanos;
+    /** Statement cache counters of connections that were closed; guarded by {@link #statementCaches} */
+    private long closedStatementHits, closedStatementMisses;
+
+    /**
+     * @param url               JDBC url
+     * @param user              database user
+     * @param password          database password
+     * @param maxSize           maximum number of open connections
+     * @param maxWaitMillis     how long a borrower waits for a free connection before failing
+     * @param idleTimeoutMillis how long an unused connection stays open
+     * @param statementCacheSize prepared statements kept open per connection, {@code 0} disables the cache
+     */
+    public ConnectionPool(String url, String user, String password, int maxSize, long maxWaitMillis,
+                          long idleTimeoutMillis, int statementCacheSize) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = Math.max(1, maxSize);
+        this.maxWaitMillis = Math.max(0, maxWaitMillis);
+        this.idleTimeoutMillis = Math.max(0, idleTimeoutMillis);
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * Takes a connection from the pool, opening a new one if none is idle and the limit allows it.
+     * Every borrowed connection must be handed back with {@link #release(Connection)}.
+     *
+     * @return a valid connection in auto-commit mode
+     * @throws DataAccessException if the pool is closed, no connection frees up in time or opening one fails
+     */
+    public Connection borrow() {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+
+        while (true) {
+            IdleConnection candidate = null;
+            boolean open = false;
+
+            lock.lock();
+            try {
+                evictExpired();
+                while (true) {
+                    if (closed) throw new DataAccessException("Connection pool is closed", null);
+                    if (!idle.isEmpty()) {
+                        candidate = idle.pollFirst();
+                        reserved++;
+                        break;
+                    }
+                    if (active.size() + reserved < maxSize) {
+                        reserved++;
+                        open = true;
+                        break;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        timeouts++;
+                        throw new DataAccessException("Timed out after " + maxWaitMillis
+                                + " ms waiting for a database connection (" + maxSize + " in use)", null);
+                    }
+                    available.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataAccessException("Interrupted while waiting for a database connection", e);
+            } finally {
+                lock.unlock();
+            }
+
+            // network round trips happen outside the lock, the reservation keeps the slot taken meanwhile
+            Connection connection = null;
+            try {
+                connection = open ? openConnection() : validate(candidate);
+            } finally {
+                lock.lock();
+                try {
+                    reserved--;
+                    if (connection != null) {
+                        active.put(connection, Boolean.TRUE);
+                        long waited = System.nanoTime() - start;
+                        borrows++;
+                        totalWaitNanos += waited;
+                        maxWaitNanos = Math.max(maxWaitNanos, waited);
+                    } else {
+                        // the slot is free again for a waiting borrower
+                        available.signal();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            if (connection == null) continue; // stale idle connection was dropped, try again
+            return connection;
+        }
+    }
+
+    /**
+     * Hands a borrowed connection back. Uncommitted work is rolled back and auto-commit restored.
+     *
+     * @param connection a connection obtained from {@link #borrow()}
+     */
+    public void release(Connection connection) {
+        if (connection == null) return;
+        boolean reusable = reset(connection);
+
+        lock.lock();
+        try {
+            if (active.remove(connection) == null) return;
+            if (reusable && !closed) {
+                idle.addFirst(new IdleConnection(connection, System.currentTimeMillis()));
+            } else {
+                closeQuietly(connection);
+            }
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens one connection right away so configuration and network problems surface immediately.
+     *
+     * @throws DataAccessException if the database cannot be reached
+     */
+    public void warmUp() {
+        release(borrow());
+    }
+
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes every idle connection and refuses further borrows. Borrowed connections are closed when released.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            idle.forEach(entry -> closeQuietly(entry.connection()));
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param connection a connection currently borrowed from this pool
+     * @return the prepared statement cache of that connection
+     */
+    StatementCache statementsOf(Connection connection) {
+        return statementCaches.computeIfAbsent(connection, c -> new StatementCache(c, statementCacheSize));
+    }
+
+    public PoolStats getStats() {
+        lock.lock();
+        try {
+            long statementHits, statementMisses;
+            // the caches count on their borrowing threads, so these sums can lag slightly behind
+            synchronized (statementCaches) {
+                statementHits = closedStatementHits;
+                statementMisses = closedStatementMisses;
+                for (StatementCache statements : statementCaches.values()) {
+                    statementHits += statements.getHits();
+                    statementMisses += statements.getMisses();
+                }
+            }
+            return new PoolStats(active.size(), idle.size(), maxSize, borrows, timeouts, totalWaitNanos, maxWaitNanos,
+                    statementHits, statementMisses);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Connection openConnection() {
+        try {
+            return DriverManager.getConnection(url, user, password);
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to connect to database", e);
+        }
+    }
+
+    /**
+     * @return the connection if it is still usable, otherwise {@code null} after closing it
+     */
+    private Connection validate(IdleConnection candidate) {
+        Connection connection = candidate.connection();
+        try {
+            boolean recentlyUsed = System.currentTimeMillis() - candidate.idleSince() < VALIDATION_INTERVAL_MILLIS;
+            if (!connection.isClosed() && (recentlyUsed || connection.isValid(VALIDATION_TIMEOUT_SECONDS))) {
+                return connection;
+            }
+        } catch (SQLException e) {
+            logger.log(Level.FINE, "Validation of pooled connection failed", e);
+        }
+        logger.info("Dropping broken pooled connection");
+        closeQuietly(connection);
+        return null;
+    }
+
+    private boolean reset(Connection connection) {
+        try {
+            if (connection.isClosed()) return false;
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            logger.log(Level.WARNING, "Discarding connection that could not be reset", e);
+            return false;
+        }
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<IdleConnection> it = idle.descendingIterator(); // least recently used first
+        while (it.hasNext()) {
+            IdleConnection entry = it.next();
+            if (now - entry.idleSince() < idleTimeoutMillis) break;
+            it.remove();
+            closeQuietly(entry.connection());
+        }
+    }
+
+    private void closeQuietly(Connection connection) {
+        StatementCache statements;
+        synchronized (statementCaches) {
+            statements = statementCaches.remove(connection);
+            if (statements != null) {
+                closedStatementHits += statements.getHits();
+                closedStatementMisses += statements.getMisses();
+            }
+        }
+        if (statements != null) statements.close();
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // ignore; this is cleanup
+        }
+    }
+}
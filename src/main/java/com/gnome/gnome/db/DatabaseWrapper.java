@@ -3,15 +3,29 @@ package com.gnome.gnome.db;
 import com.gnome.gnome.annotations.config.Value;
 import com.gnome.gnome.exceptions.DataAccessException;
 import com.gnome.gnome.utils.annotation.MyValueInjection;
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.math.BigDecimal;
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * A singleton wrapper class for managing database connections and executing SQL queries.
  * Provides methods for executing updates, queries, and managing transactions.
+ * <p>
+ * Connections come from a bounded {@link ConnectionPool}. Each statement borrows a connection and returns it
+ * right away; a transaction keeps one connection bound to the calling thread from
+ * {@link #beginTransaction()} until commit or rollback, so concurrent callers never share transaction state.
+ * </p>
+ * <p>
+ * Prepared statements are cached per connection and keyed by SQL text. Every statement method owns the
+ * lifecycle of its statement and result set: callers pass a {@link RowMapper} to {@link #query} instead of
+ * receiving a live {@link ResultSet}, so neither can leak.
+ * </p>
  */
 @Getter
 public class DatabaseWrapper {
@@ -22,7 +36,15 @@ public class DatabaseWrapper {
     private static final Logger logger = Logger.getLogger(DatabaseWrapper.class.getName());
 
     private static DatabaseWrapper instance;
-    private Connection connection;
+    private final int poolSize;
+    private final int poolMaxWaitMillis;
+    private final int poolIdleTimeoutMillis;
+    private final int statementCacheSize;
+    private ConnectionPool pool;
+
+    /** Connection of the transaction running on the current thread, if any */
+    @Getter(AccessLevel.NONE)
+    private final ThreadLocal<Connection> transactionConnection = new ThreadLocal<>();
 
     /**
      * Constructs a new DatabaseWrapper with the specified database connection details.
@@ -30,19 +52,34 @@ public class DatabaseWrapper {
      * @param url      the database URL
      * @param user     the database username
      * @param password the database password
+     * @param poolSize maximum number of open connections
+     * @param poolMaxWaitMillis how long a caller waits for a free connection
+     * @param poolIdleTimeoutMillis how long an unused connection stays open
+     * @param statementCacheSize prepared statements kept open per connection
      * @throws DataAccessException if the database connection fails
      */
     private DatabaseWrapper(@Value("app.url") String url,
                             @Value("app.user") String user,
-                            @Value("app.password") String password) {
+                            @Value("app.password") String password,
+                            @Value("app.db_pool_size") int poolSize,
+                            @Value("app.db_pool_max_wait_ms") int poolMaxWaitMillis,
+                            @Value("app.db_pool_idle_timeout_ms") int poolIdleTimeoutMillis,
+                            @Value("app.db_statement_cache_size") int statementCacheSize) {
         URL = url;
         USER = user;
         PASSWORD = password;
-        try {
-            this.connection = DriverManager.getConnection(URL, USER, PASSWORD);
-        } catch (SQLException e) {
-            throw new DataAccessException("Failed to connect to database", e);
-        }
+        this.poolSize = poolSize;
+        this.poolMaxWaitMillis = poolMaxWaitMillis;
+        this.poolIdleTimeoutMillis = poolIdleTimeoutMillis;
+        this.statementCacheSize = statementCacheSize;
+        this.pool = createPool();
+    }
+
+    private ConnectionPool createPool() {
+        ConnectionPool newPool = new ConnectionPool(URL, USER, PASSWORD, poolSize, poolMaxWaitMillis,
+                poolIdleTimeoutMillis, statementCacheSize);
+        newPool.warmUp();
+        return newPool;
     }
 
     /**
@@ -71,56 +108,148 @@ public class DatabaseWrapper {
      * @throws DataAccessException if the query execution fails
      */
     public int executeUpdate(String sql, Object... params) {
-        try (PreparedStatement stmt = prepareStatement(sql, params)) {
-            return stmt.executeUpdate();
-        } catch (SQLException e) {
-            throw new DataAccessException("Query execution failed: " + sql, e);
-        }
+        return execute(sql, params, PreparedStatement::executeUpdate);
     }
 
     /**
-     * Executes an SQL query with the given parameters and returns the result set.
-     * The caller is responsible for closing the returned ResultSet.
+     * Executes an SQL query and maps every row of the result.
+     * The result set is closed before this method returns; the statement stays cached for the next call.
      *
      * @param sql    the SQL query
+     * @param mapper maps one row to an object
      * @param params the parameters to bind to the prepared statement
-     * @return the ResultSet containing the query results
-     * @throws DataAccessException if the query execution fails
+     * @param <T>    the mapped type
+     * @return the mapped rows, empty if the query matched nothing
+     * @throws DataAccessException if the query execution or mapping fails
+     */
+    public <T> List<T> query(String sql, RowMapper<T> mapper, Object... params) {
+        return execute(sql, params, stmt -> {
+            List<T> results = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(mapper.map(rs));
+                }
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Executes an SQL query and maps its first row.
+     *
+     * @param sql    the SQL query
+     * @param mapper maps the row to an object
+     * @param params the parameters to bind to the prepared statement
+     * @param <T>    the mapped type
+     * @return the mapped first row, or {@code null} if the query matched nothing
+     * @throws DataAccessException if the query execution or mapping fails
+     */
+    public <T> T queryOne(String sql, RowMapper<T> mapper, Object... params) {
+        return execute(sql, params, stmt -> {
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? mapper.map(rs) : null;
+            }
+        });
+    }
+
+    /**
+     * Work done with a bound statement while its connection is held.
      */
-    public ResultSet executeQuery(String sql, Object... params) {
+    @FunctionalInterface
+    private interface StatementWork<R> {
+        R run(PreparedStatement stmt) throws SQLException;
+    }
+
+    /**
+     * Runs one statement on the transaction connection of this thread, or on a connection borrowed for the call.
+     * The statement comes from the connection's cache and is only closed if caching is disabled or it failed.
+     */
+    private <R> R execute(String sql, Object[] params, StatementWork<R> work) {
+        Connection connection = acquire();
+        StatementCache statements = pool.statementsOf(connection);
+        PreparedStatement stmt = null;
         try {
-            PreparedStatement stmt = prepareStatement(sql, params);
-            return stmt.executeQuery();
+            stmt = statements.prepare(sql);
+            bind(stmt, params);
+            return work.run(stmt);
         } catch (SQLException e) {
+            statements.invalidate(sql);
             throw new DataAccessException("Query execution failed: " + sql, e);
+        } finally {
+            if (stmt != null && !statements.isCaching()) closeQuietly(stmt);
+            releaseIfNotInTransaction(connection);
         }
     }
 
     /**
-     * Prepares a SQL statement with the given parameters.
+     * Binds parameters with the setter matching their type, falling back to setObject for anything else.
      *
-     * @param sql    the SQL statement
-     * @param params the parameters to bind
-     * @return the prepared statement
-     * @throws SQLException if statement preparation fails
+     * @param stmt   the statement to bind
+     * @param params the parameter values in placeholder order
+     * @throws SQLException if a value cannot be bound
      */
-    private PreparedStatement prepareStatement(String sql, Object... params) throws SQLException {
-        PreparedStatement stmt = connection.prepareStatement(sql);
+    private static void bind(PreparedStatement stmt, Object... params) throws SQLException {
         for (int i = 0; i < params.length; i++) {
-            stmt.setObject(i + 1, params[i]);
+            int index = i + 1;
+            Object param = params[i];
+            if (param == null) {
+                stmt.setNull(index, Types.NULL);
+            } else if (param instanceof String value) {
+                stmt.setString(index, value);
+            } else if (param instanceof Integer value) {
+                stmt.setInt(index, value);
+            } else if (param instanceof Long value) {
+                stmt.setLong(index, value);
+            } else if (param instanceof Float value) {
+                stmt.setFloat(index, value);
+            } else if (param instanceof Double value) {
+                stmt.setDouble(index, value);
+            } else if (param instanceof Boolean value) {
+                stmt.setBoolean(index, value);
+            } else if (param instanceof Short value) {
+                stmt.setShort(index, value);
+            } else if (param instanceof BigDecimal value) {
+                stmt.setBigDecimal(index, value);
+            } else if (param instanceof byte[] value) {
+                stmt.setBytes(index, value);
+            } else if (param instanceof Timestamp value) {
+                stmt.setTimestamp(index, value);
+            } else if (param instanceof Date value) {
+                stmt.setDate(index, value);
+            } else if (param instanceof Enum<?> value) {
+                stmt.setString(index, value.name());
+            } else {
+                stmt.setObject(index, param);
+            }
+        }
+    }
+
+    private static void closeQuietly(Statement stmt) {
+        try {
+            stmt.close();
+        } catch (SQLException e) {
+            // ignore; this is cleanup
         }
-        return stmt;
     }
 
     /**
      * method for starting transaction in manual transaction management invoked from
-     * AOP class before any database update is done
+     * AOP class before any database update is done.
+     * Borrows a connection for the current thread; every statement issued by this thread
+     * runs on it until {@link #commitTransaction()} or {@link #rollBackTransaction()}.
      */
     public void beginTransaction() {
+        if (transactionConnection.get() != null) {
+            logger.warning("Transaction already running on this thread, joining it");
+            return;
+        }
+        Connection connection = pool.borrow();
         try {
             connection.setAutoCommit(false);
+            transactionConnection.set(connection);
         } catch (SQLException e) {
-            logger.log(Level.SEVERE, "Cannot begin transaction");
+            pool.release(connection);
+            logger.log(Level.SEVERE, "Cannot begin transaction", e);
         }
     }
 
@@ -129,10 +258,17 @@ public class DatabaseWrapper {
      * AOP class after all database update is done
      */
     public void commitTransaction() {
+        Connection connection = transactionConnection.get();
+        if (connection == null) {
+            logger.warning("Commit without a running transaction");
+            return;
+        }
         try {
             connection.commit();
         } catch (SQLException e) {
-            logger.log(Level.SEVERE, "Cannot commit transaction: ", e.getCause().toString());
+            logger.log(Level.SEVERE, "Cannot commit transaction", e);
+        } finally {
+            endTransaction(connection);
         }
     }
 
@@ -141,24 +277,39 @@ public class DatabaseWrapper {
      * AOP class if there is any exception while database update is done
      */
     public void rollBackTransaction() {
+        Connection connection = transactionConnection.get();
+        if (connection == null) return;
         try {
             connection.rollback();
         } catch (SQLException e) {
-            logger.log(Level.SEVERE, "Cannot rollback transaction: " + e.getCause().toString());
+            logger.log(Level.SEVERE, "Cannot rollback transaction", e);
+        } finally {
+            endTransaction(connection);
         }
     }
 
     /**
-     * Closes the database connection and resets the singleton instance.
+     * @return whether the pool was shut down, e.g. after the internet connection dropped
+     */
+    public boolean isClosed() {
+        return pool.isClosed();
+    }
+
+    /**
+     * @return borrow, wait and timeout counters of the connection pool
+     */
+    public ConnectionPool.PoolStats getPoolStats() {
+        return pool.getStats();
+    }
+
+    /**
+     * Closes the connection pool and resets the singleton instance.
      */
     public void close() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-                instance = null;
-            }
-        } catch (SQLException e) {
-            throw new DataAccessException("Failed to close database connection", e);
+        if (!pool.isClosed()) {
+            logger.info("Closing connection pool: " + pool.getStats());
+            pool.close();
+            instance = null;
         }
     }
 
@@ -166,10 +317,21 @@ public class DatabaseWrapper {
      * Provide reconnection when we lose internet connection.
      */
     public void reconnect() {
-        try {
-            this.connection = DriverManager.getConnection(URL, USER, PASSWORD);
-        } catch (SQLException e) {
-            throw new DataAccessException("Failed to connect to database", e);
-        }
+        if (!pool.isClosed()) pool.close();
+        pool = createPool();
+    }
+
+    private Connection acquire() {
+        Connection connection = transactionConnection.get();
+        return connection != null ? connection : pool.borrow();
+    }
+
+    private void releaseIfNotInTransaction(Connection connection) {
+        if (connection != transactionConnection.get()) pool.release(connection);
+    }
+
+    private void endTransaction(Connection connection) {
+        transactionConnection.remove();
+        pool.release(connection);
     }
 }
\ No newline at end of file
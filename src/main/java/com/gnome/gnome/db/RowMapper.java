@@ -0,0 +1,21 @@
+package com.gnome.gnome.db;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a result set to an object.
+ * The result set is owned by {@link DatabaseWrapper}; implementations must not close it or move its cursor.
+ *
+ * @param <T> the mapped type
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * @param rs the result set positioned on the row to map
+     * @return the mapped object
+     * @throws SQLException if a column cannot be read
+     */
+    T map(ResultSet rs) throws SQLException;
+}
@@ -0,0 +1,104 @@
+package com.gnome.gnome.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of the prepared statements of one physical connection, keyed by SQL text.
+ * <p>
+ * Reusing the same {@link PreparedStatement} object lets the driver switch to a named server-side
+ * statement after a few executions, so repeated DAO queries are no longer parsed and planned again.
+ * The least recently used statement is closed once more than {@code maxSize} are cached.
+ * </p>
+ * <p>
+ * Not thread safe: a connection and its cache are only used by the thread that borrowed the connection.
+ * </p>
+ */
+class StatementCache {
+    private final Connection connection;
+    private final int maxSize;
+    private final LinkedHashMap<String, PreparedStatement> statements;
+
+    /** Only written by the borrowing thread, read by {@link ConnectionPool#getStats()} */
+    private volatile long hits, misses;
+
+    /**
+     * @param connection the connection the statements are prepared on
+     * @param maxSize    maximum number of open statements, {@code 0} disables caching
+     */
+    StatementCache(Connection connection, int maxSize) {
+        this.connection = connection;
+        this.maxSize = Math.max(0, maxSize);
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() <= StatementCache.this.maxSize) return false;
+                closeQuietly(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached statement for the SQL text, preparing it on a miss.
+     * The statement must not be closed by the caller unless caching is disabled, see {@link #isCaching()}.
+     *
+     * @param sql the SQL text
+     * @return an open statement with its parameters cleared
+     * @throws SQLException if the statement cannot be prepared
+     */
+    PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement stmt = statements.get(sql);
+        if (stmt != null && !stmt.isClosed()) {
+            hits++;
+            stmt.clearParameters();
+            return stmt;
+        }
+        misses++;
+        stmt = connection.prepareStatement(sql);
+        if (maxSize > 0) statements.put(sql, stmt);
+        return stmt;
+    }
+
+    /**
+     * @return whether prepared statements are kept open after use
+     */
+    boolean isCaching() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Drops a statement that failed, so the next call prepares it again.
+     */
+    void invalidate(String sql) {
+        PreparedStatement stmt = statements.remove(sql);
+        if (stmt != null) closeQuietly(stmt);
+    }
+
+    long getHits() {
+        return hits;
+    }
+
+    long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Closes every cached statement.
+     */
+    void close() {
+        statements.values().forEach(StatementCache::closeQuietly);
+        statements.clear();
+    }
+
+    private static void closeQuietly(PreparedStatement stmt) {
+        try {
+            stmt.close();
+        } catch (SQLException e) {
+            // ignore; this is cleanup
+        }
+    }
+}
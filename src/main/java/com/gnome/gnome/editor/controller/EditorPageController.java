@@ -1,14 +1,15 @@
 package com.gnome.gnome.editor.controller;
 
 import com.gnome.gnome.MainApplication;
+import com.gnome.gnome.dao.DaoExecutor;
 import com.gnome.gnome.dao.MapDAO;
 import com.gnome.gnome.editor.javafxobj.TemplateMapDialog;
 import com.gnome.gnome.editor.utils.*;
 import com.gnome.gnome.dao.userDAO.UserSession;
 import com.gnome.gnome.models.Map;
+import com.gnome.gnome.models.MapSummary;
 import com.gnome.gnome.editor.javafxobj.SaveMapDialogBox;
 import com.gnome.gnome.editor.javafxobj.SelectorMapDialogBox;
-import com.gnome.gnome.exceptions.DataAccessException;
 import com.gnome.gnome.models.user.PlayerRole;
 import com.gnome.gnome.switcher.switcherPage.PageSwitcherInterface;
 import com.gnome.gnome.switcher.switcherPage.SwitchPage;
@@ -590,22 +591,7 @@ public class EditorPageController {
         MapDAO mapDAO = new MapDAO();
         String currentUsername = userState.getUsername();
 
-        try {
-            List<Map> userMaps;
-
-            if (userState.getRole() == PlayerRole.ADMIN) {
-                userMaps = mapDAO.getAllMaps();
-            } else {
-                userMaps = mapDAO.getMapsByUsername(currentUsername);
-            }
-//            } else if (userState.getRole() == PlayerRole.MAP_CREATOR) {
-//                userMaps = mapDAO.getMapsByUsername(currentUsername);
-//            }
-//            else {
-//                logger.warning("User does not have permission to load maps.");
-//                return;
-//            }
-
+        DaoExecutor.onFxThread(fetchEditableMaps(mapDAO), userMaps -> {
             if (userMaps.isEmpty()) {
                 logger.info("No maps available for user: " + currentUsername);
                 CustomPopupUtil.showWarning(stage, bundle.getString("error.no.maps.server"));
@@ -621,25 +607,41 @@ public class EditorPageController {
             result.ifPresent(selectedItem -> {
                 logger.info("Selected map: " + selectedItem);
 
-                Map selectedMap = userMaps.stream()
+                MapSummary selectedMap = userMaps.stream()
                         .filter(map -> ("ID: " + map.getId() + " - Name: " + map.getName()).equals(selectedItem))
                         .findFirst()
                         .orElse(null);
 
                 if (selectedMap != null) {
-                    int[][] levelGrid = selectedMap.getMapData();
-                    setupGrid(levelGrid, levelGrid[0].length, levelGrid.length);
-                    logger.info("Map loaded successfully: " + selectedItem);
+                    // the listing only holds the summary, the grid is fetched for the chosen map alone
+                    DaoExecutor.onFxThread(DaoExecutor.supplyAsync(() -> mapDAO.getMapById(selectedMap.getId())), map -> {
+                        if (map == null) {
+                            CustomPopupUtil.showWarning(stage, bundle.getString("error.map.not.found.user"));
+                            return;
+                        }
+                        int[][] levelGrid = map.getMapData();
+                        setupGrid(levelGrid, levelGrid[0].length, levelGrid.length);
+                        logger.info("Map loaded successfully: " + selectedItem);
+                    }, e -> CustomPopupUtil.showError(stage, bundle.getString("map.load.error")));
                 } else {
                     logger.log(Level.SEVERE,"Selected map not found in user maps.");
                     CustomPopupUtil.showWarning(stage, bundle.getString("error.map.not.found.user"));
                 }
             });
+        }, e -> CustomPopupUtil.showError(stage, bundle.getString("map.load.error")));
+    }
 
-        } catch (DataAccessException e) {
-            logger.log(Level.SEVERE, "Error loading maps from database", e);
-            CustomPopupUtil.showError(stage, bundle.getString("map.load.error"));
-        }
+    /**
+     * Fetches the summaries of the maps the current user may edit off the FX thread: every map for an admin,
+     * otherwise only the user's own maps.
+     *
+     * @param mapDAO the DAO to query
+     * @return a future completed with the map summaries
+     */
+    private CompletableFuture<List<MapSummary>> fetchEditableMaps(MapDAO mapDAO) {
+        String currentUsername = userState.getUsername();
+        boolean isAdmin = userState.getRole() == PlayerRole.ADMIN;
+        return DaoExecutor.supplyAsync(() -> isAdmin ? mapDAO.getAllMapSummaries() : mapDAO.getMapSummariesByUsername(currentUsername));
     }
 
 
@@ -704,40 +706,38 @@ public class EditorPageController {
         }
 
         result.ifPresent(fileName -> {
-            try {
-                int level = 0;
-
-                Map map = new Map(
-                        userState.getUsername(),
-                        mapGrid,
-                        100,
-                        fileName,
-                        fileName,
-                        level
-
-                );
-
-                if (mapDialog.isStoryMap()) {
-                    List<Map> maps = mapDAO.getMapsOrderedByLevelDesc();
-                    if (!maps.isEmpty()) {
-                        Map lastMap = maps.getFirst();
-                        level = lastMap.getLevel() + 1;
-                        map.setLevel(level);
+            int level = 0;
+
+            Map map = new Map(
+                    userState.getUsername(),
+                    mapGrid,
+                    100,
+                    fileName,
+                    fileName,
+                    level
+
+            );
+            boolean isStoryMap = mapDialog.isStoryMap();
+
+            CompletableFuture<Void> save = DaoExecutor.runAsync(() -> {
+                if (isStoryMap) {
+                    Integer maxLevel = mapDAO.getMaxLevel();
+                    if (maxLevel != null) {
+                        map.setLevel(maxLevel + 1);
                     }
-                    mapDAO.insertMap(map, true);
+                }
+                mapDAO.insertMap(map, isStoryMap);
+            });
+
+            DaoExecutor.onFxThread(save, v -> {
+                if (isStoryMap) {
                     logger.info("Story map saved to database: " + fileName);
                     CustomPopupUtil.showSuccess(primaryStage, bundle.getString("map.save.database.story.success"));
-
                 } else {
-                    mapDAO.insertMap(map, false);
                     logger.info("Map saved to database: " + fileName);
                     CustomPopupUtil.showSuccess(primaryStage, bundle.getString("map.save.database.regular.success"));
-
                 }
-            } catch (DataAccessException e) {
-                logger.log(Level.SEVERE, "Failed to save map to database", e);
-                CustomPopupUtil.showError(primaryStage, bundle.getString("map.save.database.error"));
-            }
+            }, e -> CustomPopupUtil.showError(primaryStage, bundle.getString("map.save.database.error")));
         });
     }
 
@@ -757,15 +757,7 @@ public class EditorPageController {
         MapDAO mapDAO = new MapDAO();
         String currentUsername = userState.getUsername();
 
-        try {
-            List<Map> userMaps;
-
-            if (userState.getRole() == PlayerRole.ADMIN) {
-                userMaps = mapDAO.getAllMaps();
-            } else {
-                userMaps = mapDAO.getMapsByUsername(currentUsername);
-            }
-
+        DaoExecutor.onFxThread(fetchEditableMaps(mapDAO), userMaps -> {
             if (userMaps.isEmpty()) {
                 logger.info("No maps available for update for user: " + currentUsername);
                 CustomPopupUtil.showWarning(stage, bundle.getString("warning.no.maps.update"));
@@ -790,7 +782,7 @@ public class EditorPageController {
             result.ifPresent(selectedItem -> {
                 logger.info("Selected map for update: " + selectedItem);
 
-                Map selectedMap = userMaps.stream()
+                MapSummary selectedMap = userMaps.stream()
                         .filter(map -> ("ID: " + map.getId() + " - Name: " + map.getName()).equals(selectedItem))
                         .findFirst()
                         .orElse(null);
@@ -798,12 +790,10 @@ public class EditorPageController {
 
                 if (selectedMap != null) {
 
-                    selectedMap.setMapData(mapGrid);
-                    selectedMap.setScoreVal(selectedMap.getScoreVal() + 100);
-
-                    mapDAO.updateMap(selectedMap);
-                    logger.info("Map updated successfully: " + selectedMap.getMapNameEng());
-                    CustomPopupUtil.showSuccess(stage, bundle.getString("map.update.success"));
+                    DaoExecutor.onFxThread(DaoExecutor.runAsync(() -> mapDAO.updateMapData(selectedMap.getId(), mapGrid)), v -> {
+                        logger.info("Map updated successfully: " + selectedMap.getMapNameEng());
+                        CustomPopupUtil.showSuccess(stage, bundle.getString("map.update.success"));
+                    }, e -> CustomPopupUtil.showError(stage, bundle.getString("map.update.error")));
 
                 } else {
                     logger.log(Level.SEVERE, "Selected map not found in user maps.");
@@ -811,11 +801,7 @@ public class EditorPageController {
                 }
 
             });
-
-        } catch (DataAccessException e) {
-            logger.log(Level.SEVERE, "Error updating map in database", e);
-            CustomPopupUtil.showError(stage, bundle.getString("map.update.error"));
-        }
+        }, e -> CustomPopupUtil.showError(stage, bundle.getString("map.update.error")));
     }
 
 
@@ -907,18 +893,12 @@ public class EditorPageController {
         MapDAO mapDAO = new MapDAO();
         String currentUsername = userState.getUsername();
 
-        try {
-            List<Map> userMaps;
-
-            if (userState.getRole() == PlayerRole.ADMIN) {
-                userMaps = mapDAO.getAllMaps();
-            } else if (userState.getRole() == PlayerRole.MAP_CREATOR) {
-                userMaps = mapDAO.getMapsByUsername(currentUsername);
-            } else {
-                logger.warning("User does not have permission to delete maps.");
-                return;
-            }
+        if (userState.getRole() != PlayerRole.ADMIN && userState.getRole() != PlayerRole.MAP_CREATOR) {
+            logger.warning("User does not have permission to delete maps.");
+            return;
+        }
 
+        DaoExecutor.onFxThread(fetchEditableMaps(mapDAO), userMaps -> {
             if (userMaps.isEmpty()) {
                 logger.info("No maps available for user: " + currentUsername);
                 return;
@@ -934,24 +914,21 @@ public class EditorPageController {
             result.ifPresent(selectedItem -> {
                 logger.info("Selected map for deletion: " + selectedItem);
 
-                Map selectedMap = userMaps.stream()
+                MapSummary selectedMap = userMaps.stream()
                         .filter(map -> ("ID: " + map.getId() + " - Name: " + map.getName()).equals(selectedItem))
                         .findFirst()
                         .orElse(null);
 
                 if (selectedMap != null) {
-                    mapDAO.deleteMapById(selectedMap.getId());
-                    logger.info("Map deleted successfully: " + selectedItem);
-                    CustomPopupUtil.showSuccess(stage, bundle.getString("map.delete.success"));
+                    DaoExecutor.onFxThread(DaoExecutor.runAsync(() -> mapDAO.deleteMapById(selectedMap.getId())), v -> {
+                        logger.info("Map deleted successfully: " + selectedItem);
+                        CustomPopupUtil.showSuccess(stage, bundle.getString("map.delete.success"));
+                    }, e -> CustomPopupUtil.showError(stage, bundle.getString("map.delete.error")));
                 } else {
                     logger.log(Level.SEVERE, "Selected map not found in user maps.");
                     CustomPopupUtil.showWarning(stage, bundle.getString("error.map.not.found.user"));
                 }
             });
-
-        } catch (DataAccessException e) {
-            logger.log(Level.SEVERE, "Error deleting map from database", e);
-            CustomPopupUtil.showError(stage, bundle.getString("map.delete.error"));
-        }
+        }, e -> CustomPopupUtil.showError(stage, bundle.getString("map.delete.error")));
     }
 }
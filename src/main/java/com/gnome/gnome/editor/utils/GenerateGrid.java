@@ -1,6 +1,6 @@
 package com.gnome.gnome.editor.utils;
 
-import javafx.scene.image.Image;
+import com.gnome.gnome.game.assets.TileAtlas;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
@@ -9,7 +9,6 @@ import javafx.scene.shape.Rectangle;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.gnome.gnome.editor.utils.EditorConstants.TILE_SIZE;
@@ -164,12 +163,7 @@ public class GenerateGrid {
      */
     public static void updateTileImage(StackPane tilePane, TypeOfObjects type) {
         tilePane.getChildren().clear();
-        System.out.println("IMAGE: " + type.getImagePath());
-        ImageView icon = new ImageView(
-                new Image(Objects.requireNonNull(
-                        GenerateGrid.class.getResourceAsStream(type.getImagePath())
-                ))
-        );
+        ImageView icon = TileAtlas.getInstance().createView(type);
         icon.setFitWidth(TILE_SIZE);
         icon.setFitHeight(TILE_SIZE);
         icon.setPreserveRatio(true);
@@ -56,12 +56,12 @@ public enum TypeOfObjects {
     WALL_11("tile_845.png", 38),
 
 
-    /** Chest category */
-    CHEST_1("tile_302.png", 60),
-    CHEST_2("tile_348.png", 61),
-    CHEST_3("tile_354.png", 62),
-    CHEST_4("tile_355.png", 63),
-    CHEST_5("tile_451.png", 64),
+    /** Chest category (redrawn artwork in their own files, not the sheet tiles) */
+    CHEST_1("tile_302.png", 60, false),
+    CHEST_2("tile_348.png", 61, false),
+    CHEST_3("tile_354.png", 62, false),
+    CHEST_4("tile_355.png", 63, false),
+    CHEST_5("tile_451.png", 64, false),
 
 
     /** Doors category */
@@ -72,7 +72,7 @@ public enum TypeOfObjects {
     DOOR_5("tile_448.png", 84),
     DOOR_6("tile_449.png", 85),
     DOOR_7("tile_450.png", 86),
-    DOOR_8("tile_451.png", 87),
+    DOOR_8("tile_451.png", 87, false), // shares the redrawn CHEST_5 artwork
     DOOR_9("tile_799.png", 88),
     DOOR_10("tile_641.png", 89),
     DOOR_11("tile_793.png", 90),
@@ -85,14 +85,39 @@ public enum TypeOfObjects {
     /** Integer value associated with the object type */
     private final int value;
 
+    /**
+     * Index of the artwork in {@code colored_packed.png} (row-major, 16x16 tiles),
+     * or -1 if the artwork only exists as its own image file.
+     */
+    private final int atlasIndex;
+
      /** Constructor for object type.
      *
      * @param imageName the filename of the tile image
      * @param value     the numeric value representing this type in the map grid
      */
     TypeOfObjects(String imageName, int value) {
+        this(imageName, value, true);
+    }
+
+    /**
+     * @param imageName the filename of the tile image
+     * @param value     the numeric value representing this type in the map grid
+     * @param packed    whether a {@code tile_N.png} image is the unmodified tile N of the packed sheet
+     */
+    TypeOfObjects(String imageName, int value, boolean packed) {
         this.imageName = imageName;
         this.value = value;
+        this.atlasIndex = packed ? parseTileIndex(imageName) : -1;
+    }
+
+    private static int parseTileIndex(String imageName) {
+        if (!imageName.startsWith("tile_") || !imageName.endsWith(".png")) return -1;
+        try {
+            return Integer.parseInt(imageName.substring("tile_".length(), imageName.length() - ".png".length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 
     /**
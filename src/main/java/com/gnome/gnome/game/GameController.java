@@ -1,7 +1,11 @@
 package com.gnome.gnome.game;
 
 import com.gnome.gnome.MainApplication;
+import com.gnome.gnome.game.animation.TweenManager;
+import com.gnome.gnome.game.assets.AssetManager;
 import com.gnome.gnome.game.camera.Camera;
+import com.gnome.gnome.game.camera.CameraShake;
+import com.gnome.gnome.game.camera.EntityRenderer;
 import com.gnome.gnome.components.PlayerHealthBar;
 import com.gnome.gnome.dao.MapDAO;
 import com.gnome.gnome.game.component.Chest;
@@ -9,7 +13,19 @@ import com.gnome.gnome.game.component.Coin;
 import com.gnome.gnome.editor.utils.TypeOfObjects;
 import com.gnome.gnome.game.component.CoinUIRenderer;
 import com.gnome.gnome.game.component.ItemUIRenderer;
+import com.gnome.gnome.game.engine.FrameSnapshot;
+import com.gnome.gnome.game.engine.GameRandom;
+import com.gnome.gnome.game.engine.GameTickEngine;
+import com.gnome.gnome.game.engine.InputLog;
+import com.gnome.gnome.game.engine.TimingWheel;
+import com.gnome.gnome.game.map.FlowField;
+import com.gnome.gnome.game.map.LineOfSight;
+import com.gnome.gnome.game.map.NavMask;
+import com.gnome.gnome.game.map.CoinGrid;
+import com.gnome.gnome.game.map.OccupancyGrid;
 import com.gnome.gnome.game.monsters.GameMonster;
+import com.gnome.gnome.game.monsters.MonsterLod;
+import com.gnome.gnome.game.monsters.MonsterMovePlanner;
 import com.gnome.gnome.models.*;
 import com.gnome.gnome.models.Map;
 import com.gnome.gnome.game.player.Player;
@@ -18,6 +34,7 @@ import com.gnome.gnome.userState.UserState;
 import com.gnome.gnome.utils.CustomPopupUtil;
 import com.gnome.gnome.utils.InternetMonitor;
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Pos;
@@ -26,7 +43,7 @@ import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
-import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.stage.Popup;
@@ -35,10 +52,10 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.logging.Logger;
 
-import static java.lang.Math.max;
 
 @Getter
 @Setter
@@ -49,6 +66,10 @@ public class GameController {
     @FXML private StackPane healthBarContainer;
 
     private Canvas viewportCanvas;
+    private Canvas overlayCanvas;
+    private Canvas entityCanvas;
+    private EntityRenderer entityRenderer;
+    private final TweenManager tweens = new TweenManager();
     private Weapon weapon;
     private Armor armor;
     private Potion potion;
@@ -57,20 +78,35 @@ public class GameController {
 
     private Camera camera;
     private final List<GameMonster> gameMonsterList = new ArrayList<>();
-    private final List<Coin> coinsOnMap = new ArrayList<>();
+    private CoinGrid coinsOnMap;
     private final List<Chest> activeChests = new ArrayList<>();
     private final List<com.gnome.gnome.models.Monster> dbMonsters = new ArrayList<>();
+    private OccupancyGrid occupancy;
+    private NavMask navMask;
+    private LineOfSight lineOfSight;
+    private FlowField flowField;
 
     private static final Logger logger = Logger.getLogger(GameController.class.getName());
+    // 256 slots cover ~4 s at 60 ticks per second, longer than any monster cooldown
+    private static final int MONSTER_WHEEL_SLOTS = 256;
+    // one hit shakes by ~5 px for half a second
+    private static final double HIT_TRAUMA = 0.7;
 
     private AnimationTimer gameLoop;
-    private final long UPDATE_INTERVAL = 16_666_666L;
-    private long lastTime = 0;
-    private boolean isStop = false;
-    private boolean isGameOver = false;
+    private GameTickEngine tickEngine;
+    private long lastRenderedTick = -1;
+    private TimingWheel<GameMonster> monsterScheduler;
+    private int maxMonsterAttackRange;
+    private MonsterLod monsterLod;
+    private MonsterMovePlanner movePlanner;
+    private GameRandom gameRandom;
+    private CameraShake cameraShake;
+    private InputLog inputRecording;
+    private InputLog replay;
+    private volatile boolean isStop = false;
+    private volatile boolean isGameOver = false;
 
     private Player player;
-    private Pane gameObjectsPane;
     private static GameController instance;
     private boolean debugModGame;
 
@@ -114,7 +150,32 @@ public class GameController {
 
         this.bundle = MainApplication.getLangBundle();
 
-        GameInitializer.setupMap(fieldMap, dbMonsters, this.gameMonsterList, this.activeChests, armor, weapon);
+        this.replay = loadReplay(selectedMap);
+        this.gameRandom = replay != null ? new GameRandom(replay.getSeed()) : createSessionRandom();
+        this.inputRecording = replay == null && GameInitializer.loadProperties("app.record_replay")
+                ? new InputLog(gameRandom.getSeed(), selectedMap.getId()) : null;
+        logger.info("Game session seed: " + gameRandom.getSeed());
+
+        GameInitializer.setupMap(fieldMap, dbMonsters, this.gameMonsterList, this.activeChests, armor, weapon, gameRandom.stream("chests"));
+        this.cameraShake = new CameraShake(gameRandom.stream("effects"));
+        this.occupancy = GameInitializer.buildOccupancy(fieldMap, gameMonsterList, activeChests);
+        this.coinsOnMap = new CoinGrid(fieldMap.length, fieldMap[0].length);
+        this.navMask = new NavMask(fieldMap, baseMap);
+        this.lineOfSight = new LineOfSight(navMask);
+        this.flowField = new FlowField(navMask);
+        this.monsterScheduler = new TimingWheel<>(MONSTER_WHEEL_SLOTS);
+        this.monsterLod = new MonsterLod(
+                GameInitializer.loadIntProperty("app.ai_lod_margin", 5),
+                GameInitializer.loadIntProperty("app.ai_lod_near_interval_ms", 1000) * 1_000_000L);
+        this.movePlanner = new MonsterMovePlanner(GameInitializer.loadIntProperty("app.parallel_planning_threshold", 64));
+        this.maxMonsterAttackRange = 0;
+        for (int i = 0; i < gameMonsterList.size(); i++) {
+            GameMonster monster = gameMonsterList.get(i);
+            monster.setPriority(i);
+            monster.setRandom(gameRandom.stream("monster", i));
+            monsterScheduler.schedule(monster, 0);
+            maxMonsterAttackRange = Math.max(maxMonsterAttackRange, (int) Math.ceil(monster.getAttackRange()));
+        }
 
         this.player = Player.getInstance();
         this.camera = Camera.getInstance(fieldMap, 0, 0, player, armor, weapon, potion);
@@ -122,13 +183,13 @@ public class GameController {
         instance = this;
 
         setupUI();
-        addGameEntitiesToPane();
         updateCenterStackSize();
 
         uiManager = new GameUIManager(this);
         healthBar = new PlayerHealthBar(250, 50);
         healthBarContainer.getChildren().add(healthBar);
-        updatePlayerHealthBar();
+        // the game loop has not started yet, later frames set the bar from their snapshot
+        uiManager.updateHealthBar(healthBar, player.getCurrentHealth(), player.getMaxHealth());
 
         centerMenuButton.setOnAction(e -> uiManager.showCenterMenuPopup());
 
@@ -142,6 +203,11 @@ public class GameController {
 
     private void setupUI() {
         viewportCanvas = new Canvas();
+        overlayCanvas = new Canvas();
+        overlayCanvas.setMouseTransparent(true);
+        entityCanvas = new Canvas();
+        entityCanvas.setMouseTransparent(true);
+        entityRenderer = new EntityRenderer(player.getImage(), tweens);
 
         BorderPane.setAlignment(centerStack, Pos.CENTER);
         rootBorder.setCenter(centerStack);
@@ -154,11 +220,9 @@ public class GameController {
             }
         });
 
-        gameObjectsPane = new Pane();
         uiOverlayPane = new Pane();
         VBox bottomUIBox = new VBox();
 
-        gameObjectsPane.setPickOnBounds(false);
         uiOverlayPane.setPickOnBounds(false);
 
         bottomUIBox.setAlignment(Pos.BOTTOM_CENTER);
@@ -184,14 +248,14 @@ public class GameController {
         itemBox.setPrefWidth(200);
         itemBox.setStyle("-fx-padding: 0 20 0 0;");
 
-        StackPane viewportRoot = new StackPane(viewportCanvas, gameObjectsPane, uiOverlayPane);
+        StackPane viewportRoot = new StackPane(viewportCanvas, overlayCanvas, entityCanvas, uiOverlayPane);
         viewportRoot.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
         HBox.setHgrow(viewportRoot, Priority.ALWAYS);
 
         HBox gameAndUIBox = new HBox(viewportRoot, itemBox);
         centerStack.getChildren().setAll(gameAndUIBox);
 
-        camera.drawViewport(viewportCanvas, coinsOnMap);
+        camera.drawViewport(viewportCanvas, overlayCanvas, List.of());
         updateCenterStackSize();
     }
 
@@ -211,12 +275,10 @@ public class GameController {
 
         viewportCanvas.setWidth(size);
         viewportCanvas.setHeight(size);
-
-        if (gameObjectsPane != null) {
-            gameObjectsPane.setPrefSize(size, size);
-            gameObjectsPane.setMinSize(size, size);
-            gameObjectsPane.setMaxSize(size, size);
-        }
+        overlayCanvas.setWidth(size);
+        overlayCanvas.setHeight(size);
+        entityCanvas.setWidth(size);
+        entityCanvas.setHeight(size);
 
         if (uiOverlayPane != null) {
             uiOverlayPane.setPrefSize(size, size);
@@ -234,34 +296,13 @@ public class GameController {
 
 
 
-    private void addGameEntitiesToPane() {
-        camera.updateCameraCenter();
-        double tileSize = camera.getDynamicTileSize();
-
-        for (Chest chest : activeChests) {
-            chest.updatePositionWithCamera(camera.getStartCol(), camera.getStartRow(), tileSize, tileSize);
-            if (!gameObjectsPane.getChildren().contains(chest.getImageView())) {
-                gameObjectsPane.getChildren().add(chest.getImageView());
-            }
-        }
-
-        for (GameMonster gameMonster : gameMonsterList) {
-            ImageView monsterView = gameMonster.getRepresentation();
-            monsterView.getProperties().put("gridX", gameMonster.getX());
-            monsterView.getProperties().put("gridY", gameMonster.getY());
-            gameMonster.updateVisual(camera);
-            logger.info("Adding monster view: " + gameMonster.getNameEng() +
-                    ", visible=" + gameMonster.getRepresentation().isVisible() +
-                    ", parent=" + gameMonster.getRepresentation().getParent());
-            if (!gameObjectsPane.getChildren().contains(monsterView)) {
-                gameObjectsPane.getChildren().add(monsterView);
-            }
-        }
-    }
-
     public void onSceneExit(boolean isRestart) {
-        if (gameLoop != null) gameLoop.stop();
+        stopGameLoop();
+        saveInputRecording();
+        UserState.getInstance().flushSoon();
+        logger.info("Asset cache: " + AssetManager.getInstance().getStats());
         gameLoop = null;
+        tickEngine = null;
 
         Camera.resetInstance();
         Player.resetInstance();
@@ -269,33 +310,120 @@ public class GameController {
             GameController.instance = null;
 
         viewportCanvas = null;
+        overlayCanvas = null;
+        entityCanvas = null;
         gameMonsterList.clear();
-        coinsOnMap.clear();
-        gameObjectsPane.getChildren().clear();
+        if (occupancy != null) occupancy.clear();
+        navMask = null;
+        lineOfSight = null;
+        flowField = null;
+        if (monsterScheduler != null) monsterScheduler.clear();
+        if (coinsOnMap != null) coinsOnMap.clear();
+        tweens.clear();
         isStop = false;
     }
 
+    /**
+     * Hands a state mutation over to the simulation thread; it runs before the next tick.
+     *
+     * @param command the mutation to run on the simulation thread
+     */
+    void submitToSimulation(Runnable command) {
+        if (tickEngine != null) tickEngine.submit(command);
+    }
+
+    /**
+     * @return {@code true} if the session is driven by a replay file instead of the keyboard
+     */
+    public boolean isReplaying() {
+        return replay != null;
+    }
+
+    /**
+     * Appends a handled key to the input recording, if recording is enabled. Runs on the simulation thread.
+     *
+     * @param code the key that was handled
+     */
+    void recordInput(KeyCode code) {
+        if (inputRecording != null && tickEngine != null) inputRecording.record(tickEngine.getCurrentTick(), code);
+    }
+
+    private GameRandom createSessionRandom() {
+        String seed = GameInitializer.loadStringProperty("app.rng_seed", null);
+        if (seed == null) return GameRandom.withRandomSeed();
+        try {
+            return new GameRandom(Long.parseLong(seed));
+        } catch (NumberFormatException e) {
+            logger.warning("Invalid app.rng_seed '" + seed + "', using a random seed");
+            return GameRandom.withRandomSeed();
+        }
+    }
+
+    private InputLog loadReplay(Map map) {
+        String file = GameInitializer.loadStringProperty("app.replay_file", null);
+        if (file == null) return null;
+        try {
+            InputLog log = InputLog.load(Path.of(file));
+            if (log.getMapId() != map.getId()) {
+                logger.warning("Replay " + file + " was recorded on map " + log.getMapId() + ", playing map " + map.getId());
+            }
+            logger.info("Replaying " + log.size() + " input events from " + file);
+            return log;
+        } catch (IOException e) {
+            logger.warning("Could not load replay " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveInputRecording() {
+        if (inputRecording == null || inputRecording.size() == 0) return;
+        String dir = GameInitializer.loadStringProperty("app.replay_dir", "replays");
+        Path file = Path.of(dir, "replay-" + inputRecording.getMapId() + "-" + System.currentTimeMillis() + ".gnrp");
+        try {
+            inputRecording.save(file);
+            logger.info("Saved " + inputRecording.size() + " input events to " + file);
+        } catch (IOException e) {
+            logger.warning("Could not save input recording to " + file + ": " + e.getMessage());
+        }
+        inputRecording = null;
+    }
+
+    /**
+     * @return the simulation time of the current tick in nanoseconds
+     */
+    public long getSimTime() {
+        return tickEngine == null ? 0 : tickEngine.getSimTimeNanos();
+    }
+
     private void registerKeyHandlers(Scene scene) {
         scene.setOnKeyPressed(playerGameService::handleKeyPress);
         scene.getRoot().requestFocus();
     }
 
+    /**
+     * Checks whether a monster or chest other than {@code self} stands on the tile.
+     *
+     * @param x column to test
+     * @param y row to test
+     * @param self the monster asking, ignored when found on the tile; may be {@code null}
+     * @return {@code true} if the tile is taken by another entity
+     */
     public boolean isBlocked(int x, int y, GameMonster self) {
-        return gameMonsterList.stream().anyMatch(m -> m != self && m.getX() == x && m.getY() == y) ||
-                activeChests.stream().anyMatch(ch -> ch.getGridX() == x && ch.getGridY() == y);
+        Object occupant = occupancy.occupantAt(x, y);
+        return occupant != null && occupant != self;
     }
 
-
-    void movePlayer(int oldX, int oldY, int newX, int newY, TypeOfObjects tileType) {
+    void movePlayer(int oldX, int oldY, int newX, int newY) {
         if (newX < oldX) player.moveLeft();
         else if (newX > oldX) player.moveRight();
         else if (newY < oldY) player.moveUp();
         else if (newY > oldY) player.moveDown();
 
-        if (tileType == TypeOfObjects.FINISH_POINT) onHatchStepped();
-        else if (tileType == TypeOfObjects.RIVER) onRiverStepped();
+        wakeMonstersNear(newX, newY, maxMonsterAttackRange);
+        wakeSleepingMonsters(newX, newY);
 
-        renderGame();
+        if (fieldMap[newY][newX] == TypeOfObjects.FINISH_POINT.getValue()) onHatchStepped();
+        else if (navMask.isHazard(newX, newY)) onRiverStepped();
     }
 
     boolean isNearChest(int x, int y) {
@@ -319,9 +447,7 @@ public class GameController {
 
             if (isAdjacent && !chest.isOpened()) {
                 chest.setOpened(true);
-                chest.animate();
                 player.addCoin(Math.round(chest.getValue()));
-                coinUIRenderer.update();
                 player.addCountOfOpenedChest();
                 player.addScore(50);
                 break;
@@ -337,7 +463,7 @@ public class GameController {
             int ny = y + dir[1];
 
             if (nx >= 0 && ny >= 0 && ny < baseMap.length && nx < baseMap[0].length) {
-                if (TypeOfObjects.fromValue(baseMap[ny][nx]) == TypeOfObjects.TABLE) {
+                if (baseMap[ny][nx] == TypeOfObjects.TABLE.getValue()) {
                     return true;
                 }
             }
@@ -352,21 +478,24 @@ public class GameController {
 
     private void onHatchStepped() {
         if (!gameMonsterList.isEmpty()) {
-            if (rootBorder.getScene() != null && rootBorder.getScene().getWindow() != null) {
-                Stage stage = (Stage) rootBorder.getScene().getWindow();
-                if (debugModGame) System.out.println("You must kill all monsters before using the hatch!");
-                CustomPopupUtil.showWarning(stage, bundle.getString("warning.monsters.before.hatch"));
-            }
+            Platform.runLater(() -> {
+                if (rootBorder.getScene() != null && rootBorder.getScene().getWindow() != null) {
+                    Stage stage = (Stage) rootBorder.getScene().getWindow();
+                    if (debugModGame) System.out.println("You must kill all monsters before using the hatch!");
+                    CustomPopupUtil.showWarning(stage, bundle.getString("warning.monsters.before.hatch"));
+                }
+            });
             return;
         }
 
         isGameOver = true;
-        if (gameLoop != null) gameLoop.stop();
-
-        onLevelCompleted();
-
         isStop = true;
-        uiManager.showStatisticsPopup(isStoryMode,() -> uiManager.showShopPopup(isStoryMode));
+
+        Platform.runLater(() -> {
+            stopGameLoop();
+            onLevelCompleted();
+            uiManager.showStatisticsPopup(isStoryMode,() -> uiManager.showShopPopup(isStoryMode));
+        });
     }
 
     public void onLevelCompleted() {
@@ -398,7 +527,7 @@ public class GameController {
         MapDAO mapDAO = new MapDAO();
         map.setTimesPlayed(map.getTimesPlayed() + 1);
         map.setTimesCompleted(map.getTimesCompleted() + 1);
-        mapDAO.updateMap(map);
+        mapDAO.updateMapStats(map);
     }
 
 
@@ -425,34 +554,24 @@ public class GameController {
         logger.info("Player stepped on river at (" + player.getX() + ", " + player.getY() + ")");
         double damage = player.getMaxHealth() * 0.1;
         player.takeDamage(damage);
-        updatePlayerHealthBar();
     }
 
     /**
      * Checks whether the player is standing on a coin and collects it if found.
+     * Runs on the simulation thread every tick.
      */
     private void checkCoinPickup() {
-        int px = player.getX();
-        int py = player.getY();
-
-        List<Coin> collected = coinsOnMap.stream()
-                .filter(coin -> coin.getGridX() == px && coin.getGridY() == py)
-                .toList();
+        if (coinsOnMap.isEmpty()) return;
 
-        collected.forEach(coin -> {
-            player.addCoin(coin.getValue());
-            gameObjectsPane.getChildren().remove(coin.getImageView());
-        });
-
-        coinsOnMap.removeAll(collected);
-        coinUIRenderer.update();
+        Coin coin = coinsOnMap.take(player.getX(), player.getY());
+        if (coin != null) player.addCoin(coin.value());
     }
 
-    private void drawAttackRange(GraphicsContext gc, int range) {
+    private void drawAttackRange(GraphicsContext gc, int playerX, int playerY, int range) {
         gc.setFill(Color.color(1, 0, 0, 0.3));
         double tw = camera.getTileWidth(), th = camera.getTileHeight();
-        int baseX = player.getX() - camera.getStartCol();
-        int baseY = player.getY() - camera.getStartRow();
+        int baseX = playerX - camera.getStartCol();
+        int baseY = playerY - camera.getStartRow();
 
         for (int dx = -range; dx <= range; dx++) {
             for (int dy = -range; dy <= range; dy++) {
@@ -472,139 +591,223 @@ public class GameController {
      */
     void removeMonsters(List<GameMonster> eliminated) {
         eliminated.forEach(monster -> {
+            // a monster killed by a hit is reported again when its hit effect ends
+            if (!gameMonsterList.contains(monster)) return;
             int x = monster.getX(), y = monster.getY();
-            coinsOnMap.add(new Coin(x, y, monster.getCost()));
+            occupancy.remove(monster, x, y);
+            monsterScheduler.cancel(monster);
+            coinsOnMap.add(x, y, monster.getCost());
             player.addScore(monster.getScore());
             player.addCountOfKilledMonsters();
-            coinUIRenderer.update();
-            gameObjectsPane.getChildren().remove(monster.getRepresentation());
         });
 
         gameMonsterList.removeAll(eliminated);
-        renderGame();
     }
 
 
     /**
-     * Updates the camera's viewport to render the current state of the game.
-     * This includes drawing the map, updating the player's position, repositioning effects, and updating UI elements.
+     * Renders the most recent frame published by the simulation thread.
+     * Must be called on the FX thread.
      */
     private void renderGame() {
-        GraphicsContext gc = viewportCanvas.getGraphicsContext2D();
-        camera.updateCameraCenter();
+        if (tickEngine == null || viewportCanvas == null) return;
+        FrameSnapshot frame = tickEngine.getLatestSnapshot();
+        if (frame == null) return;
+
+        renderFrame(frame);
+        lastRenderedTick = frame.tick();
+    }
+
+    /**
+     * Updates the camera's viewport to render the given frame.
+     * This includes drawing the map, drawing the entity layer, repositioning effects, and updating UI elements.
+     *
+     * @param frame the immutable game state to draw
+     */
+    private void renderFrame(FrameSnapshot frame) {
+        GraphicsContext gc = overlayCanvas.getGraphicsContext2D();
+        camera.updateCameraCenter(frame.playerX(), frame.playerY());
+        centerStack.setTranslateX(frame.shakeX());
+        centerStack.setTranslateY(frame.shakeY());
 
-        camera.drawViewport(viewportCanvas, coinsOnMap);
+        camera.drawViewport(viewportCanvas, overlayCanvas, frame.coins());
 
         if (rootBorder.getScene() != null && rootBorder.getScene().getWindow() != null) {
             Stage stage = (Stage) rootBorder.getScene().getWindow();
-            if (this.isNearTable(player.getX(), player.getY()) && !isInfoForTableShown) {
+            if (frame.nearTable() && !isInfoForTableShown) {
                 isInfoForTableShown = true;
                 CustomPopupUtil.showInfo(stage, bundle.getString("interaction.table"));
             }
-            if (this.isNearChest(player.getX(), player.getY()) && !isInfoForChestShown) {
+            if (frame.nearChest() && !isInfoForChestShown) {
                 isInfoForChestShown = true;
                 CustomPopupUtil.showInfo(stage, bundle.getString("interaction.chest"));
             }
         }
-        drawAttackRange(gc, 1);
-
-        gameMonsterList.forEach(monster -> {
-            monster.updateVisual(camera);
-            ImageView view = monster.getRepresentation();
-
-            int gridX = monster.getX();
-            int gridY = monster.getY();
-
-            if (camera.isInView(gridX, gridY)) {
-                if (!gameObjectsPane.getChildren().contains(view)) {
-                    gameObjectsPane.getChildren().add(view);
-                }
-            } else {
-                gameObjectsPane.getChildren().remove(view);
-            }
-        });
-        activeChests.forEach(c -> {
-            int x = c.getGridX(), y = c.getGridY();
-            c.updatePositionWithCamera(camera.getStartCol(), camera.getStartRow(), camera.getTileWidth(), camera.getTileHeight());
+        drawAttackRange(gc, frame.playerX(), frame.playerY(), 1);
 
-            if (camera.isInView(x, y)) {
-                if (!gameObjectsPane.getChildren().contains(c.getImageView())) {
-                    gameObjectsPane.getChildren().add(c.getImageView());
-                }
-            } else {
-                gameObjectsPane.getChildren().remove(c.getImageView());
-            }
+        tweens.advance(frame.simTimeNanos());
+        frame.chests().forEach(chestFrame -> {
+            Chest c = chestFrame.chest();
+            if (chestFrame.opened() && !c.isAnimated()) c.animate(tweens);
         });
-        player.setDynamicTileSize(Math.min(camera.getTileWidth(), camera.getTileHeight()));
-        player.updatePositionWithCamera(camera.getStartCol(), camera.getStartRow(), camera.getTileWidth(), camera.getTileHeight(), this::checkCoinPickup);
-
-        if (!gameObjectsPane.getChildren().contains(player.getRepresentation()))
-            gameObjectsPane.getChildren().add(player.getRepresentation());
+        entityRenderer.render(entityCanvas, camera, frame);
 
-        updatePlayerHealthBar();
-        coinUIRenderer.update();
+        uiManager.updateHealthBar(healthBar, frame.playerHealth(), frame.playerMaxHealth());
+        coinUIRenderer.update(frame.playerCoins());
     }
 
+    /**
+     * Captures the current simulation state for the renderer. Runs on the simulation thread.
+     *
+     * @return an immutable snapshot of the state needed to draw a frame
+     */
+    private FrameSnapshot captureFrame() {
+        List<FrameSnapshot.MonsterFrame> monsters = new ArrayList<>(gameMonsterList.size());
+        for (GameMonster m : gameMonsterList) {
+            monsters.add(new FrameSnapshot.MonsterFrame(m, m.getX(), m.getY(), m.isHitEffectPlaying(), m.isMeleeAttacking()));
+        }
 
-    public boolean isLineOfSightClear(int x1, int y1, int x2, int y2) {
-        int dx = x2 - x1;
-        int dy = y2 - y1;
-
-        int steps = max(Math.abs(dx), Math.abs(dy));
-        double stepX = dx / (double) steps;
-        double stepY = dy / (double) steps;
+        List<FrameSnapshot.ChestFrame> chests = new ArrayList<>(activeChests.size());
+        for (Chest c : activeChests) {
+            chests.add(new FrameSnapshot.ChestFrame(c, c.getGridX(), c.getGridY(), c.isOpened()));
+        }
 
-        for (int i = 1; i < steps; i++) {
-            int ix = (int) Math.round(x1 + i * stepX);
-            int iy = (int) Math.round(y1 + i * stepY);
+        int px = player.getX(), py = player.getY();
+        // only the coins the camera can show, located by tile instead of scanning every drop
+        List<Coin> coins = coinsOnMap.coinsIn(
+                MonsterLod.viewportStart(px, coinsOnMap.getCols()), MonsterLod.viewportStart(py, coinsOnMap.getRows()),
+                Camera.VIEWPORT_SIZE, Camera.VIEWPORT_SIZE);
+
+        long tick = tickEngine == null ? 0 : tickEngine.getCurrentTick();
+        long simTime = tickEngine == null ? 0 : tickEngine.getSimTimeNanos();
+        return new FrameSnapshot(tick, simTime, px, py, player.getCurrentHealth(), player.getMaxHealth(),
+                player.getPlayerCoins(), player.getScore(),
+                cameraShake.getOffsetX(), cameraShake.getOffsetY(),
+                List.copyOf(monsters), List.copyOf(chests), List.copyOf(coins),
+                isNearTable(px, py), isNearChest(px, py));
+    }
 
-            if (ix < 0 || iy < 0 || iy >= fieldMap.length || ix >= fieldMap[0].length) return true;
 
-            if (!TypeOfObjects.fromValue(baseMap[iy][ix]).isTransparent()) return true;
-        }
-        return false;
+    /**
+     * Checks whether the player can see the given tile. Results are cached until the player
+     * moves or a tile changes, so repeated checks (melee range, attacks) are an array lookup.
+     * Must be called on the simulation thread.
+     *
+     * @param x tile column
+     * @param y tile row
+     * @return {@code true} if no opaque tile lies between the player and the tile
+     */
+    public boolean isVisibleFromPlayer(int x, int y) {
+        return lineOfSight.isVisible(player.getX(), player.getY(), x, y);
     }
 
 
     /**
-     * Starts the game loop using an AnimationTimer.
-     * The game loop updates the viewport, moves monsters, triggers skeleton attacks, and manages active arrows.
+     * Starts the game loop.
+     * Simulation (monster AI, cooldowns, pickups) runs on a fixed-timestep {@link GameTickEngine} thread,
+     * while an AnimationTimer on the FX thread only renders the frames the engine publishes.
      */
     private void startGameLoop() {
         if (isGameOver) return;
+
+        int tickRate = GameInitializer.loadIntProperty("app.tick_rate", 60);
+        int maxCatchUpTicks = GameInitializer.loadIntProperty("app.max_catch_up_ticks", 5);
+        tickEngine = new GameTickEngine(tickRate, maxCatchUpTicks, this::onTick, this::captureFrame);
+
         gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                if (lastTime == 0) {
-                    lastTime = now;
-                    return;
-                }
-                if (now - lastTime >= UPDATE_INTERVAL) {
-                    double delta = (now - lastTime) / 1_000_000_000.0;
-                    updateMonsters(delta);
+                FrameSnapshot frame = tickEngine.getLatestSnapshot();
+                if (frame != null && frame.tick() != lastRenderedTick) {
                     renderGame();
-                    lastTime = now;
                 }
             }
         };
+
+        tickEngine.start();
         gameLoop.start();
     }
 
-    private void updateMonsters(double delta) {
+    public void pauseGameLoop() {
+        if (gameLoop != null) gameLoop.stop();
+        if (tickEngine != null) tickEngine.pause();
+    }
+
+    public void resumeGameLoop() {
+        if (tickEngine != null) tickEngine.resume();
+        if (gameLoop != null) gameLoop.start();
+    }
+
+    public void stopGameLoop() {
+        if (gameLoop != null) gameLoop.stop();
+        if (tickEngine != null) tickEngine.stop();
+        if (centerStack != null) {
+            centerStack.setTranslateX(0);
+            centerStack.setTranslateY(0);
+        }
+    }
+
+    /**
+     * Advances the simulation by one fixed step. Runs on the simulation thread.
+     *
+     * @param tick the index of the step
+     * @param now the simulation time of the step in nanoseconds
+     */
+    private void onTick(long tick, long now) {
         if (isGameOver || isStop) return;
+        if (replay != null) replay.replayUpTo(tick, playerGameService::handleKey);
+        flowField.update(player.getX(), player.getY());
+        updateMonsters(tick, now);
+        checkCoinPickup();
+        cameraShake.advance(tickEngine.getStepNanos());
+    }
+
+    /**
+     * Updates the monsters that are due this tick. Idle monsters sit in the timing wheel until
+     * their next move, attack or effect end, so the cost is proportional to the active ones.
+     * Monsters outside the viewport are throttled or put to sleep according to {@link MonsterLod}.
+     * Due monsters move in two phases (parallel planning, then prioritized resolution), see {@link MonsterMovePlanner}.
+     */
+    private void updateMonsters(long tick, long now) {
+        List<GameMonster> due = new ArrayList<>();
+        monsterScheduler.advance(tick, due::add);
+        if (due.isEmpty()) return;
 
         List<GameMonster> toRemove = new ArrayList<>();
+        List<GameMonster> alive = new ArrayList<>(due.size());
+        List<GameMonster> movers = new ArrayList<>();
 
-        for (GameMonster gameMonster : gameMonsterList) {
+        // hit effect callbacks may remove monsters while we loop; removed monsters are cancelled in the wheel
+        for (GameMonster gameMonster : due) {
+            if (gameMonster.getHealth() <= 0) {
+                toRemove.add(gameMonster);
+                continue;
+            }
+            gameMonster.updateEffects(player, now);
             if (gameMonster.getHealth() <= 0) {
                 toRemove.add(gameMonster);
                 continue;
             }
-            if (gameMonster.getRepresentation().getParent() == null) {
-                gameObjectsPane.getChildren().add(gameMonster.getRepresentation());
+            alive.add(gameMonster);
+            if (gameMonster.wantsToMove(player, now)) movers.add(gameMonster);
+        }
+
+        movePlanner.moveAll(movers, navMask, occupancy);
+
+        for (GameMonster gameMonster : alive) {
+            gameMonster.meleeAttack(player, now);
+            if (gameMonster.getHealth() <= 0) {
+                toRemove.add(gameMonster);
+                continue;
             }
-            gameMonster.updateLogic(player, delta, fieldMap, baseMap);
-            gameMonster.meleeAttack(player, gameObjectsPane, System.nanoTime());
+
+            MonsterLod.Tier tier = monsterLod.classify(gameMonster.getX(), gameMonster.getY(),
+                    player.getX(), player.getY(), navMask.getCols(), navMask.getRows());
+            boolean busy = gameMonster.isHitEffectPlaying() || gameMonster.isMeleeAttacking();
+            if (tier == MonsterLod.Tier.ASLEEP && !busy) continue; // woken by wakeSleepingMonsters
+
+            long next = monsterLod.throttle(tier, gameMonster.getNextUpdateTime(player, now), now);
+            monsterScheduler.schedule(gameMonster, toTick(next));
         }
 
         if (!toRemove.isEmpty()) {
@@ -612,13 +815,68 @@ public class GameController {
         }
     }
 
-    public void shakeCamera() {
-        if (isGameOver) return;
-        uiManager.shakeCamera();
+    /**
+     * Makes a monster due on the next processed tick, e.g. after it was hit.
+     * Must be called on the simulation thread.
+     *
+     * @param monster the monster to update
+     */
+    public void wakeMonster(GameMonster monster) {
+        if (monsterScheduler == null) return;
+        monsterScheduler.schedule(monster, 0);
     }
 
-    public void updatePlayerHealthBar() {
-        uiManager.updateHealthBar(healthBar);
+    /**
+     * Wakes every monster standing within {@code radius} tiles of the given position,
+     * so monsters react as soon as the player steps into their attack range.
+     *
+     * @param x      column of the centre
+     * @param y      row of the centre
+     * @param radius Chebyshev radius in tiles
+     */
+    public void wakeMonstersNear(int x, int y, int radius) {
+        for (int dy = -radius; dy <= radius; dy++) {
+            for (int dx = -radius; dx <= radius; dx++) {
+                if (occupancy.occupantAt(x + dx, y + dy) instanceof GameMonster monster) {
+                    monsterScheduler.schedule(monster, 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Wakes sleeping monsters that are now within the viewport or its LOD margin around the player.
+     *
+     * @param playerX player column
+     * @param playerY player row
+     */
+    private void wakeSleepingMonsters(int playerX, int playerY) {
+        int margin = monsterLod.getMargin();
+        int startCol = MonsterLod.viewportStart(playerX, navMask.getCols()) - margin;
+        int startRow = MonsterLod.viewportStart(playerY, navMask.getRows()) - margin;
+        int size = Camera.VIEWPORT_SIZE + 2 * margin;
+
+        for (int y = startRow; y < startRow + size; y++) {
+            for (int x = startCol; x < startCol + size; x++) {
+                if (occupancy.occupantAt(x, y) instanceof GameMonster monster && !monsterScheduler.isScheduled(monster)) {
+                    monsterScheduler.schedule(monster, 0);
+                }
+            }
+        }
+    }
+
+    private long toTick(long simTimeNanos) {
+        long step = tickEngine.getStepNanos();
+        return (simTimeNanos + step - 1) / step;
+    }
+
+    /**
+     * Shakes the screen after the player was hit. Hits landing while the screen still shakes
+     * strengthen the running shake. Runs on the simulation thread.
+     */
+    public void shakeCamera() {
+        if (isGameOver) return;
+        cameraShake.addTrauma(HIT_TRAUMA);
     }
 
     public void restartGame() {
@@ -1,7 +1,10 @@
 package com.gnome.gnome.game;
 
 import com.gnome.gnome.editor.utils.TypeOfObjects;
+import com.gnome.gnome.game.assets.TileAtlas;
 import com.gnome.gnome.game.component.Chest;
+import com.gnome.gnome.game.component.Coin;
+import com.gnome.gnome.game.map.OccupancyGrid;
 import com.gnome.gnome.game.monsters.GameMonster;
 import com.gnome.gnome.models.Armor;
 import com.gnome.gnome.models.Monster;
@@ -12,13 +15,16 @@ import com.gnome.gnome.game.player.Player;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Properties;
 import java.util.Random;
+import java.util.Set;
 
 public class GameInitializer {
 
     public static final int PLAYER_MAX_HEALTH = 100;
+    public static final String PLAYER_IMAGE_PATH = "/com/gnome/gnome/images/player.png";
 
     public static int[][] copyMap(int[][] src) {
         int[][] copy = new int[src.length][];
@@ -33,7 +39,8 @@ public class GameInitializer {
                                 List<GameMonster> gameMonsterList,
                                 List<Chest> activeChests,
                                 Armor armor,
-                                Weapon weapon) {
+                                Weapon weapon,
+                                Random chestRandom) {
         for (int row = 0; row < fieldMap.length; row++) {
             for (int col = 0; col < fieldMap[row].length; col++) {
                 int tile = fieldMap[row][col];
@@ -42,12 +49,12 @@ public class GameInitializer {
                 if (tile == TypeOfObjects.START_POINT.getValue()) {
                     int health = armor == null ? PLAYER_MAX_HEALTH : armor.getHealth();
                     double damage = weapon == null ? 20.0 : weapon.getAtkValue();
-                    Player.getInstance(col, row, health, damage, "/com/gnome/gnome/images/player.png");
+                    Player.getInstance(col, row, health, damage, PLAYER_IMAGE_PATH);
                     fieldMap[row][col] = TypeOfObjects.START_POINT.getValue();
                 }
 
                 if (tileType != null && tileType.isChest()) {
-                    double val = returnBasedChestTypeValue(tileType);
+                    double val = returnBasedChestTypeValue(tileType, chestRandom);
                     activeChests.add(new Chest(col, row, val, tileType.getImagePath(), "/com/gnome/gnome/effects/" + getGifChestPath(tileType)));
                     fieldMap[row][col] = TypeOfObjects.FLOOR.getValue();
                 }
@@ -63,6 +70,51 @@ public class GameInitializer {
         }
     }
 
+    /**
+     * Lists every image the game scene needs for the given map: the tile sheet and the tiles that are not in it,
+     * the sprites and GIFs of the monster types placed on it, the closed sprites and opening animations of its chests,
+     * the player and the coin. Mirrors the scan done by {@link #setupMap}.
+     *
+     * @param mapData the map grid as stored in the database
+     * @return classpath resource paths, without duplicates
+     */
+    public static Set<String> collectAssetPaths(int[][] mapData) {
+        Set<String> paths = new LinkedHashSet<>();
+        paths.add(PLAYER_IMAGE_PATH);
+        paths.add(Coin.IMAGE_PATH);
+        paths.add(TileAtlas.SHEET_PATH);
+
+        for (int[] row : mapData) {
+            for (int tile : row) {
+                TypeOfObjects type = TypeOfObjects.fromValue(tile);
+                if (tile < 0) {
+                    paths.addAll(MonsterFactory.getAssetPaths(type));
+                } else if (type.getAtlasIndex() < 0) {
+                    paths.add(type.getImagePath());
+                }
+                if (type.isChest()) {
+                    paths.add("/com/gnome/gnome/effects/" + getGifChestPath(type));
+                }
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Builds the occupancy index for the entities spawned by {@link #setupMap}.
+     *
+     * @param fieldMap the map the entities live on
+     * @param gameMonsterList spawned monsters
+     * @param activeChests spawned chests
+     * @return a grid with every monster and chest placed on its tile
+     */
+    public static OccupancyGrid buildOccupancy(int[][] fieldMap, List<GameMonster> gameMonsterList, List<Chest> activeChests) {
+        OccupancyGrid occupancy = new OccupancyGrid(fieldMap.length, fieldMap.length == 0 ? 0 : fieldMap[0].length);
+        for (GameMonster monster : gameMonsterList) occupancy.add(monster, monster.getX(), monster.getY());
+        for (Chest chest : activeChests) occupancy.add(chest, chest.getGridX(), chest.getGridY());
+        return occupancy;
+    }
+
     public static String getGifChestPath(TypeOfObjects tileType) {
         return switch (tileType) {
             case CHEST_1 -> "animated_chest_302.gif";
@@ -74,8 +126,7 @@ public class GameInitializer {
         };
     }
 
-    private static double returnBasedChestTypeValue(TypeOfObjects type) {
-        Random random = new Random();
+    private static double returnBasedChestTypeValue(TypeOfObjects type, Random random) {
         return switch (type) {
             case CHEST_1 -> 1 + random.nextDouble() * 10;
             case CHEST_2 -> 2 + random.nextDouble() * 10;
@@ -90,6 +141,46 @@ public class GameInitializer {
         return list.stream().filter(monster -> monster.getId() == id).findFirst().orElse(null);
     }
 
+    /**
+     * Reads an integer setting from app.properties.
+     *
+     * @param key the property key
+     * @param defaultValue the value used when the key is missing or not a number
+     * @return the configured value or {@code defaultValue}
+     */
+    public static int loadIntProperty(String key, int defaultValue) {
+        try (InputStream inputStream = GameInitializer.class.getClassLoader().getResourceAsStream("app.properties")) {
+            if (inputStream == null) throw new RuntimeException("Could not find app.properties");
+            Properties props = new Properties();
+            props.load(inputStream);
+            String value = props.getProperty(key);
+            return value == null ? defaultValue : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load app.properties", e);
+        }
+    }
+
+    /**
+     * Reads a string setting from app.properties.
+     *
+     * @param key the property key
+     * @param defaultValue the value used when the key is missing or blank
+     * @return the configured value or {@code defaultValue}
+     */
+    public static String loadStringProperty(String key, String defaultValue) {
+        try (InputStream inputStream = GameInitializer.class.getClassLoader().getResourceAsStream("app.properties")) {
+            if (inputStream == null) throw new RuntimeException("Could not find app.properties");
+            Properties props = new Properties();
+            props.load(inputStream);
+            String value = props.getProperty(key);
+            return value == null || value.isBlank() ? defaultValue : value.trim();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load app.properties", e);
+        }
+    }
+
     public static boolean loadProperties(String key) {
         try (InputStream inputStream = GameInitializer.class.getClassLoader().getResourceAsStream("app.properties")) {
             if (inputStream == null) throw new RuntimeException("Could not find app.properties");
@@ -3,11 +3,7 @@ package com.gnome.gnome.game;
 import com.gnome.gnome.MainApplication;
 import com.gnome.gnome.components.PlayerHealthBar;
 import com.gnome.gnome.dao.MapDAO;
-import com.gnome.gnome.dao.UserStatisticsDAO;
-import com.gnome.gnome.dao.userDAO.UserGameStateDAO;
 import com.gnome.gnome.models.Map;
-import com.gnome.gnome.models.UserStatistics;
-import com.gnome.gnome.models.user.UserGameState;
 import com.gnome.gnome.game.player.Player;
 import com.gnome.gnome.game.shop.controllers.ShopController;
 import com.gnome.gnome.switcher.switcherPage.PageSwitcherInterface;
@@ -59,17 +55,23 @@ public class GameUIManager {
         pageSwitch = new SwitchPage();
     }
 
-    public void updateHealthBar(PlayerHealthBar healthBar) {
-        Platform.runLater(() -> {
-            healthBar.setHealthFraction((double) controller.getPlayer().getCurrentHealth() / controller.getPlayer().getMaxHealth());
-            if (controller.getPlayer().getCurrentHealth() <= 0) showGameOverOverlay();
-        });
+    /**
+     * Shows the given health on the bar and the game over overlay once it reaches zero.
+     * Must be called on the FX thread, with values taken from a {@link com.gnome.gnome.game.engine.FrameSnapshot}.
+     *
+     * @param healthBar the bar to update
+     * @param health    the player's current health
+     * @param maxHealth the player's maximum health
+     */
+    public void updateHealthBar(PlayerHealthBar healthBar, double health, double maxHealth) {
+        healthBar.setHealthFraction(health / maxHealth);
+        if (health <= 0) showGameOverOverlay();
     }
 
     public void showGameOverOverlay() {
         if (controller.getGameOverOverlay() != null || controller.isGameOver()) return;
 
-        controller.getGameLoop().stop();
+        controller.stopGameLoop();
         controller.setStop(true);
         controller.setGameOver(true);
 
@@ -144,7 +146,7 @@ public class GameUIManager {
         if (controller.getCenterStack().getChildren().stream().anyMatch(n -> n.getStyleClass().contains("menu-popup")) || controller.isGameOver())
             return;
 
-        controller.getGameLoop().stop();
+        controller.pauseGameLoop();
         controller.setStop(true);
 
         Pane darkOverlay = new Pane();
@@ -164,7 +166,7 @@ public class GameUIManager {
         resumeButton.getStyleClass().add("menu-button");
         resumeButton.setOnAction(e -> {
             controller.getCenterStack().getChildren().removeAll(menuBox, darkOverlay);
-            controller.getGameLoop().start();
+            controller.resumeGameLoop();
             controller.setStop(false);
 
             Scene scene = controller.getCenterMenuButton().getScene();
@@ -200,73 +202,17 @@ public class GameUIManager {
 
 
     public void updatePlayerAfterDeath(Player player) {
-        UserGameStateDAO userGameStateDAO = new UserGameStateDAO();
-        UserGameState userGameState = userGameStateDAO.getUserGameStateByUsername(UserState.getInstance().getUsername());
-        if (userGameState != null) {
-            userGameState.setScore(userGameState.getScore() + player.getScore());
-            userGameState.setBalance((float) (userGameState.getBalance() + player.getPlayerCoins()));
-            userGameStateDAO.updateUserGameState(userGameState);
-        }
+        UserState.getInstance().setUpdatePlayerState(player.getScore(), player.getPlayerCoins());
     }
 
     public void updateMapAfterDeath(Map map) {
         MapDAO mapDAO = new MapDAO();
         map.setTimesPlayed(map.getTimesPlayed() + 1);
-        mapDAO.updateMap(map);
+        mapDAO.updateMapStats(map);
     }
 
     public void updatePlayerStatisticsAfterDeath(Player player) {
-        UserStatisticsDAO userStatisticsDAO = new UserStatisticsDAO();
-        UserStatistics userStatistics = userStatisticsDAO.getUserStatisticsByUsername(UserState.getInstance().getUsername());
-        if (userStatistics != null) {
-            userStatistics.setTotalMapsPlayed(userStatistics.getTotalMapsPlayed() + 1);
-            userStatistics.setTotalDeaths(userStatistics.getTotalDeaths() + 1);
-            userStatistics.setTotalMonstersKilled(userStatistics.getTotalMonstersKilled() + player.getCountOfKilledMonsters());
-            userStatistics.setTotalChestsOpened(userStatistics.getTotalChestsOpened() + player.getCountOfOpenedChest());
-            userStatisticsDAO.updateUserStatistics(userStatistics);
-        }
-    }
-
-    public void shakeCamera() {
-        if (controller.isGameOver()) return;
-
-        double originalX = controller.getCenterStack().getTranslateX();
-        double originalY = controller.getCenterStack().getTranslateY();
-        Random random = new Random();
-
-        int durationMs = 500;
-        int intervalMs = 20;
-        int shakeTimes = durationMs / intervalMs;
-
-        Timer timer = new Timer();
-        TimerTask task = new TimerTask() {
-            int count = 0;
-
-            @Override
-            public void run() {
-                Platform.runLater(() -> {
-                    if (controller.isGameOver()) {
-                        controller.getCenterStack().setTranslateX(0);
-                        controller.getCenterStack().setTranslateY(0);
-                        timer.cancel();
-                        return;
-                    }
-
-                    if (count < shakeTimes) {
-                        double offsetX = (random.nextDouble() - 0.5) * 10;
-                        double offsetY = (random.nextDouble() - 0.5) * 10;
-                        controller.getCenterStack().setTranslateX(originalX + offsetX);
-                        controller.getCenterStack().setTranslateY(originalY + offsetY);
-                        count++;
-                    } else {
-                        controller.getCenterStack().setTranslateX(originalX);
-                        controller.getCenterStack().setTranslateY(originalY);
-                        timer.cancel();
-                    }
-                });
-            }
-        };
-        timer.scheduleAtFixedRate(task, 0, intervalMs);
+        UserState.getInstance().setUpdateStats(player.getCountOfKilledMonsters(), false, player.getCountOfOpenedChest());
     }
 
     public void showShopPopup(boolean isStoryMode) {
@@ -1,6 +1,9 @@
 package com.gnome.gnome.game;
 
 import com.gnome.gnome.MainApplication;
+import com.gnome.gnome.dao.DaoExecutor;
+import com.gnome.gnome.dao.MapDAO;
+import com.gnome.gnome.game.assets.AssetManager;
 import com.gnome.gnome.models.*;
 import javafx.animation.FadeTransition;
 import javafx.application.Platform;
@@ -18,12 +21,22 @@ import javafx.util.Duration;
 
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
 
 public class MapLoaderUIHandler {
+    private static final Logger logger = Logger.getLogger(MapLoaderUIHandler.class.getName());
+
+    /** Data fetched from the database before the game page can be built */
+    private record LoadedData(List<Monster> monsters, Armor armor, Weapon weapon, Potion potion) {}
 
     private final MapLoaderService service;
     private final Stage primaryStage;
     private Popup loadingPopup;
+    private ProgressIndicator loadingIndicator;
 
     private ResourceBundle bundle;
 
@@ -34,36 +47,83 @@ public class MapLoaderUIHandler {
         this.bundle = MainApplication.getLangBundle();
     }
 
+    /**
+     * Shows the loading popup, then fetches the map's game data from the database while the images the
+     * map needs are decoded in the background. The popup reports the real progress of both and the game
+     * page is opened as soon as everything is ready.
+     *
+     * @param map the map to play
+     */
     public void showStartMap(Map map) {
         showLoadingPopup();
+        startLoading(map);
+    }
+
+    /**
+     * Like {@link #showStartMap(Map)} for a map picked from a listing: the popup is shown right away while
+     * the full map, including its grid, is fetched by its ID.
+     *
+     * @param summary the listed map to play
+     */
+    public void showStartMap(MapSummary summary) {
+        showLoadingPopup();
+        MapDAO mapDAO = new MapDAO();
+        DaoExecutor.onFxThread(DaoExecutor.supplyAsync(() -> mapDAO.getMapById(summary.getId())), map -> {
+            if (map == null) {
+                hideLoadingPopup();
+                showError("Map " + summary.getId() + " no longer exists");
+            } else {
+                startLoading(map);
+            }
+        }, e -> {
+            hideLoadingPopup();
+            showError("Map loading failed: " + e.getMessage());
+        });
+    }
+
+    /**
+     * Fetches the game data of a fully loaded map while its images are decoded, then opens the game page.
+     * Expects the loading popup to be shown.
+     */
+    private void startLoading(Map map) {
+        Set<String> assets = GameInitializer.collectAssetPaths(map.getMapData());
+        // the database fetch counts as one more step on top of the images
+        int totalSteps = assets.size() + 1;
+        AtomicInteger stepsDone = new AtomicInteger();
+        Runnable stepDone = () -> {
+            double progress = (double) stepsDone.incrementAndGet() / totalSteps;
+            Platform.runLater(() -> loadingIndicator.setProgress(progress));
+        };
 
-        long startTime = System.currentTimeMillis();
+        CompletableFuture<Integer> warmUp = AssetManager.getInstance()
+                .preloadAsync(assets, (done, total) -> stepDone.run())
+                .exceptionally(ex -> {
+                    // images that failed here are simply decoded on first use
+                    logger.warning("Asset warm-up failed: " + ex.getMessage());
+                    return 0;
+                });
 
+        CompletableFuture<LoadedData> data = new CompletableFuture<>();
         service.loadMapAsync(
-                (monsters, armor, weapon, potion) -> Platform.runLater(() -> {
-                    long elapsed = System.currentTimeMillis() - startTime;
-                    long remaining = 7_000 - elapsed;
-
-                    if (remaining > 0) {
-                        new Thread(() -> {
-                            try {
-                                Thread.sleep(remaining);
-                            } catch (InterruptedException ignored) {}
-                            Platform.runLater(() -> {
-                                hideLoadingPopup();
-                                loadGamePage(map, monsters, armor, weapon, potion);
-                            });
-                        }).start();
-                    } else {
-                        hideLoadingPopup();
-                        loadGamePage(map, monsters, armor, weapon, potion);
-                    }
-                }),
-                ex -> Platform.runLater(() -> {
-                    hideLoadingPopup();
-                    showError("Map loading failed: " + ex.getMessage());
-                })
+                (monsters, armor, weapon, potion) -> {
+                    stepDone.run();
+                    data.complete(new LoadedData(monsters, armor, weapon, potion));
+                },
+                data::completeExceptionally
         );
+
+        data.thenCombine(warmUp, (loaded, warmed) -> {
+            logger.info("Preloaded " + warmed + "/" + assets.size() + " map assets");
+            return loaded;
+        }).whenComplete((loaded, ex) -> Platform.runLater(() -> {
+            hideLoadingPopup();
+            if (ex != null) {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                showError("Map loading failed: " + cause.getMessage());
+            } else {
+                loadGamePage(map, loaded.monsters(), loaded.armor(), loaded.weapon(), loaded.potion());
+            }
+        }));
     }
 
     private void showLoadingPopup() {
@@ -73,7 +133,7 @@ public class MapLoaderUIHandler {
             loadingLabel.getStyleClass().add("loading-label");
 
             // Loading Indicator
-            ProgressIndicator loadingIndicator = new ProgressIndicator(-1); // Indeterminate progress
+            loadingIndicator = new ProgressIndicator(0);
             loadingIndicator.getStyleClass().add("loading-indicator");
 
             // Separator
@@ -107,6 +167,7 @@ public class MapLoaderUIHandler {
             fadeIn.play();
         }
 
+        loadingIndicator.setProgress(0);
         loadingPopup.show(primaryStage);
         loadingPopup.setX(primaryStage.getX() + primaryStage.getWidth() / 2 - 300);
         loadingPopup.setY(primaryStage.getY() + primaryStage.getHeight() / 2 - 175);
@@ -1,10 +1,12 @@
 package com.gnome.gnome.game;
 
-import com.gnome.gnome.editor.utils.TypeOfObjects;
+import com.gnome.gnome.game.map.NavMask;
 import com.gnome.gnome.models.Potion;
 import com.gnome.gnome.game.monsters.GameMonster;
 import com.gnome.gnome.game.player.Player;
 import com.gnome.gnome.userState.UserState;
+import javafx.application.Platform;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 
 import java.util.ArrayList;
@@ -18,10 +20,28 @@ public class PlayerGameService {
         this.controller = controller;
     }
 
+    /**
+     * Receives key presses on the FX thread and forwards them to the simulation thread,
+     * which owns all game state.
+     */
     public void handleKeyPress(KeyEvent event) {
+        if (controller.isGameOver() || controller.isStop() || controller.isReplaying()) return;
+        KeyCode code = event.getCode();
+        switch (code) {
+            case LEFT, A, RIGHT, D, UP, W, DOWN, S, E, R, SPACE -> controller.submitToSimulation(() -> handleKey(code));
+            default -> {}
+        }
+    }
+
+    /**
+     * Applies a key on the simulation thread. Live and replayed keys both go through here,
+     * and every handled key is appended to the session's input recording.
+     */
+    void handleKey(KeyCode code) {
         if (controller.isGameOver() || controller.isStop()) return;
-        switch (event.getCode()) {
-            case LEFT, A, RIGHT, D, UP, W, DOWN, S -> handleMovement(event);
+        controller.recordInput(code);
+        switch (code) {
+            case LEFT, A, RIGHT, D, UP, W, DOWN, S -> handleMovement(code);
             case E -> handleInteraction();
             case R -> handleUsePotion();
             case SPACE -> handleAttack();
@@ -39,46 +59,43 @@ public class PlayerGameService {
             Potion dummy = new Potion(0, 0, 0, "", "","","",used.getImg2(), null);
 
             controller.setPotion(null);
-            controller.getItemUIRenderer().updatePotion(dummy);
-
-            controller.updatePlayerHealthBar();
 
-            UserState.getInstance().setPotionId(null);
+            Platform.runLater(() -> {
+                controller.getItemUIRenderer().updatePotion(dummy);
+                UserState.getInstance().setPotionId(null);
+            });
         }
     }
 
-    private void handleMovement(KeyEvent event) {
+    private void handleMovement(KeyCode code) {
         Player player = controller.getPlayer();
-        if (!player.canMoveNow()) return;
+        long now = controller.getSimTime();
+        if (!player.canMoveNow(now)) return;
 
         int oldX = player.getX();
         int oldY = player.getY();
         int newX = oldX;
         int newY = oldY;
 
-        int[][] baseMap = controller.getBaseMap();
-        int[][] fieldMap = controller.getFieldMap();
+        NavMask navMask = controller.getNavMask();
 
-        switch (event.getCode()) {
+        switch (code) {
             case LEFT, A -> newX = Math.max(0, oldX - 1);
-            case RIGHT, D -> newX = Math.min(baseMap[0].length - 1, oldX + 1);
+            case RIGHT, D -> newX = Math.min(navMask.getCols() - 1, oldX + 1);
             case UP, W -> newY = Math.max(0, oldY - 1);
-            case DOWN, S -> newY = Math.min(baseMap.length - 1, oldY + 1);
+            case DOWN, S -> newY = Math.min(navMask.getRows() - 1, oldY + 1);
         }
 
         if (newX == oldX && newY == oldY) return;
         if (controller.isBlocked(newX, newY, null)) return;
 
-        int tileVal = fieldMap[newY][newX] < 0 ? baseMap[newY][newX] : fieldMap[newY][newX];
-        TypeOfObjects tileType = TypeOfObjects.fromValue(tileVal);
-
-        if (!tileType.isWalkable()) {
-            if (controller.isDebugModGame()) System.out.println("Blocked tile: " + tileType);
+        if (!navMask.isWalkable(newX, newY)) {
+            if (controller.isDebugModGame()) System.out.println("Blocked tile: " + newX + ", " + newY);
             return;
         }
 
-        player.recordMoveTime();
-        controller.movePlayer(oldX, oldY, newX, newY, tileType);
+        player.recordMoveTime(now);
+        controller.movePlayer(oldX, oldY, newX, newY);
     }
 
     private void handleInteraction() {
@@ -86,23 +103,24 @@ public class PlayerGameService {
         int px = player.getX();
         int py = player.getY();
 
-        if (controller.isNearTable(px, py)) controller.showTablePopup();
+        if (controller.isNearTable(px, py)) Platform.runLater(controller::showTablePopup);
         else if (controller.isNearChest(px, py)) controller.openNearbyChest();
     }
 
     private void handleAttack() {
         Player player = controller.getPlayer();
+        long now = controller.getSimTime();
 
-        if (!player.canAttackNow()) return;
+        if (!player.canAttackNow(now)) return;
 
         List<GameMonster> gameMonsters = controller.getGameMonsterList();
 
         List<GameMonster> eliminated = new ArrayList<>();
-        player.attack(gameMonsters, 1, monster -> {
+        player.attack(gameMonsters, 1, now, monster -> {
             eliminated.add(monster);
             controller.removeMonsters(List.of(monster));
         });
 
-        player.recordAttackTime();
+        player.recordAttackTime(now);
     }
-}
\ No newline at end of file
+}
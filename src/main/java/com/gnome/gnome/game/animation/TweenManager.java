@@ -0,0 +1,195 @@
+package com.gnome.gnome.game.animation;
+
+import com.gnome.gnome.game.assets.FrameSequence;
+import javafx.scene.image.Image;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single animation system for the game scene.
+ * <p>
+ * Every running animation is a pooled {@link Tween} record attached to a target object (a monster,
+ * a chest, the player) on one of two {@link Channel channels}: a move interpolation between two tile
+ * positions, or a sprite playing the frames of a {@link FrameSequence}. Tweens are advanced with the
+ * simulation time of the rendered frame, so animations follow the game tick and pause with it, and no
+ * JavaFX {@code Animation} objects are created. Finished tweens run their completion callback and go
+ * back to the pool.
+ * </p>
+ * <p>
+ * Not thread safe, owned by the FX thread.
+ * </p>
+ */
+public class TweenManager {
+    public enum Channel { MOVE, SPRITE }
+
+    private final Map<Object, Tween> moves = new IdentityHashMap<>();
+    private final Map<Object, Tween> sprites = new IdentityHashMap<>();
+    private final ArrayDeque<Tween> pool = new ArrayDeque<>();
+    private final List<Tween> finished = new ArrayList<>();
+
+    private long now;
+
+    /**
+     * Moves the clock forward, completing every tween that ended.
+     * Completion callbacks run after all tweens were updated and may start new tweens.
+     *
+     * @param simTimeNanos simulation time of the frame being rendered
+     */
+    public void advance(long simTimeNanos) {
+        now = simTimeNanos;
+        collectFinished(moves);
+        collectFinished(sprites);
+
+        for (Tween tween : finished) {
+            Runnable onComplete = tween.onComplete;
+            recycle(tween);
+            if (onComplete != null) onComplete.run();
+        }
+        finished.clear();
+    }
+
+    /**
+     * Slides a target between two positions. If the target is already moving, the new move
+     * starts from where it currently is, so consecutive steps never jump.
+     *
+     * @param target        the animated object, compared by identity
+     * @param fromX         start column
+     * @param fromY         start row
+     * @param toX           destination column
+     * @param toY           destination row
+     * @param durationNanos length of the move
+     */
+    public void move(Object target, double fromX, double fromY, double toX, double toY, long durationNanos) {
+        Tween current = moves.get(target);
+        if (current != null) {
+            fromX = current.x();
+            fromY = current.y();
+        }
+        Tween tween = start(moves, target, durationNanos, null);
+        tween.fromX = fromX;
+        tween.fromY = fromY;
+        tween.toX = toX;
+        tween.toY = toY;
+    }
+
+    /**
+     * @return the current column of a moving target, or {@code restingX} if it is not moving
+     */
+    public double getX(Object target, double restingX) {
+        Tween tween = moves.get(target);
+        return tween == null ? restingX : tween.x();
+    }
+
+    /**
+     * @return the current row of a moving target, or {@code restingY} if it is not moving
+     */
+    public double getY(Object target, double restingY) {
+        Tween tween = moves.get(target);
+        return tween == null ? restingY : tween.y();
+    }
+
+    /**
+     * Plays the frames of a sequence on a target, replacing whatever sprite animation it was playing.
+     *
+     * @param target     the animated object, compared by identity
+     * @param frames     the frames to play
+     * @param loop       {@code true} to repeat until {@link #stop stopped}, {@code false} to play once
+     * @param onComplete called once a non-looping playback has shown its last frame; may be {@code null}
+     */
+    public void play(Object target, FrameSequence frames, boolean loop, Runnable onComplete) {
+        Tween tween = start(sprites, target, loop ? Long.MAX_VALUE : frames.durationNanos(), onComplete);
+        tween.frames = frames;
+        tween.loop = loop;
+    }
+
+    /**
+     * @return whether the target is currently playing the given frames
+     */
+    public boolean isPlaying(Object target, FrameSequence frames) {
+        Tween tween = sprites.get(target);
+        return tween != null && tween.frames == frames;
+    }
+
+    /**
+     * @return the frame the target's sprite animation currently shows, or {@code fallback} if it plays none
+     */
+    public Image getFrame(Object target, Image fallback) {
+        Tween tween = sprites.get(target);
+        return tween == null ? fallback : tween.frames.frameAt(now - tween.start, tween.loop);
+    }
+
+    /**
+     * Cancels a target's animation on one channel without running its completion callback.
+     */
+    public void stop(Object target, Channel channel) {
+        Tween tween = (channel == Channel.MOVE ? moves : sprites).remove(target);
+        if (tween != null) recycle(tween);
+    }
+
+    /**
+     * Cancels every animation, e.g. when the game scene is left.
+     */
+    public void clear() {
+        moves.values().forEach(this::recycle);
+        sprites.values().forEach(this::recycle);
+        moves.clear();
+        sprites.clear();
+    }
+
+    private Tween start(Map<Object, Tween> channel, Object target, long durationNanos, Runnable onComplete) {
+        Tween tween = channel.get(target);
+        if (tween == null) {
+            tween = pool.isEmpty() ? new Tween() : pool.pop();
+            channel.put(target, tween);
+        }
+        tween.start = now;
+        tween.duration = Math.max(1, durationNanos);
+        tween.onComplete = onComplete;
+        return tween;
+    }
+
+    private void collectFinished(Map<Object, Tween> channel) {
+        Iterator<Tween> it = channel.values().iterator();
+        while (it.hasNext()) {
+            Tween tween = it.next();
+            if (now - tween.start >= tween.duration) {
+                it.remove();
+                finished.add(tween);
+            }
+        }
+    }
+
+    private void recycle(Tween tween) {
+        tween.frames = null;
+        tween.onComplete = null;
+        pool.push(tween);
+    }
+
+    /**
+     * Mutable animation record, reused through the pool.
+     */
+    private final class Tween {
+        private long start, duration;
+        private double fromX, fromY, toX, toY;
+        private FrameSequence frames;
+        private boolean loop;
+        private Runnable onComplete;
+
+        private double progress() {
+            return Math.min(1.0, Math.max(0.0, (double) (now - start) / duration));
+        }
+
+        private double x() {
+            return fromX + (toX - fromX) * progress();
+        }
+
+        private double y() {
+            return fromY + (toY - fromY) * progress();
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.gnome.gnome.game.assets;
+
+import com.gnome.gnome.game.GameInitializer;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Central cache of decoded game images (tiles, sprites, GIF effects), keyed by classpath resource path.
+ * <p>
+ * Every resource is read and decoded once and the same {@link Image} instance is handed to every
+ * caller. Animated GIFs can also be decoded into a {@link FrameSequence} of composited frames,
+ * which are played by the {@link com.gnome.gnome.game.animation.TweenManager} instead of by JavaFX.
+ * The cache is bounded by a memory budget ({@code app.asset_budget_mb}, estimated as
+ * 4 bytes per pixel of every decoded frame); when it is exceeded the least recently used assets are
+ * evicted. Evicted images stay valid for whoever still holds them, they are just decoded again on
+ * the next request. Hit, miss and eviction counters are exposed through {@link #getStats()}.
+ * </p>
+ * <p>
+ * Thread safe: images may be requested and preloaded from background threads. Decoding happens
+ * outside the lock, so two threads missing the same key at once may both decode it; the first
+ * result wins.
+ * </p>
+ */
+public class AssetManager {
+    private static final Logger logger = Logger.getLogger(AssetManager.class.getName());
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    private static final String FRAMES_KEY_PREFIX = "frames:";
+    /** Browsers and JavaFX treat shorter GIF delays as "as fast as possible"; keep them watchable */
+    private static final long MIN_FRAME_NANOS = 20_000_000L;
+    private static final int WARMUP_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private static AssetManager instance;
+
+    /**
+     * Snapshot of the cache counters.
+     *
+     * @param hits        requests served from the cache
+     * @param misses      requests that had to decode the resource
+     * @param evictions   images dropped to stay within the budget
+     * @param entries     images currently cached
+     * @param usedBytes   estimated memory of the cached images
+     * @param budgetBytes the memory budget
+     */
+    public record AssetStats(long hits, long misses, long evictions, int entries, long usedBytes, long budgetBytes) {}
+
+    private record Entry(Object asset, long bytes) {}
+
+    private final long budgetBytes;
+    private final LinkedHashMap<String, Entry> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private long usedBytes = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private ExecutorService warmupExecutor;
+
+    /**
+     * @param budgetBytes maximum estimated memory of cached images
+     */
+    AssetManager(long budgetBytes) {
+        this.budgetBytes = Math.max(1, budgetBytes);
+    }
+
+    public static synchronized AssetManager getInstance() {
+        if (instance == null) {
+            instance = new AssetManager(GameInitializer.loadIntProperty("app.asset_budget_mb", 256) * BYTES_PER_MB);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the shared image for a classpath resource, decoding it on first use.
+     *
+     * @param path classpath resource path, e.g. {@code /com/gnome/gnome/images/coins.png}
+     * @return the image, or {@code null} if the resource does not exist
+     */
+    public Image get(String path) {
+        if (path == null) return null;
+        return (Image) load(path, () -> decode(path), image -> estimateBytes((Image) image));
+    }
+
+    /**
+     * Returns the shared frames of an animated GIF, decoding them on first use.
+     *
+     * @param path classpath resource path of the GIF
+     * @return the frames, or {@code null} if the resource does not exist or cannot be decoded
+     */
+    public FrameSequence getFrames(String path) {
+        if (path == null) return null;
+        return (FrameSequence) load(FRAMES_KEY_PREFIX + path, () -> decodeFrames(path), frames -> {
+            long bytes = 0;
+            for (Image frame : ((FrameSequence) frames).frames()) bytes += estimateBytes(frame);
+            return bytes;
+        });
+    }
+
+    /**
+     * Same as {@link #get(String)} but fails if the resource is missing.
+     *
+     * @param path classpath resource path
+     * @return the image, never {@code null}
+     * @throws IllegalStateException if the resource does not exist
+     */
+    public Image require(String path) {
+        Image image = get(path);
+        if (image == null) throw new IllegalStateException("Missing image resource: " + path);
+        return image;
+    }
+
+    /**
+     * Decodes every given resource that is not cached yet. GIFs are decoded into frame sequences.
+     *
+     * @param paths classpath resource paths
+     * @return the number of images that were available afterwards
+     */
+    public int preload(Collection<String> paths) {
+        int loaded = 0;
+        for (String path : paths) {
+            if (preloadOne(path)) loaded++;
+        }
+        return loaded;
+    }
+
+    /**
+     * Decodes the given resources on background threads. Useful while a loading screen is shown,
+     * so the first frames of the game do not stall on image decoding.
+     *
+     * @param paths      classpath resource paths
+     * @param onProgress called from a worker thread after each resource with (done, total)
+     * @return completes with the number of images that were available once every resource was processed
+     */
+    public CompletableFuture<Integer> preloadAsync(Collection<String> paths, BiConsumer<Integer, Integer> onProgress) {
+        int total = paths.size();
+        AtomicInteger done = new AtomicInteger();
+        AtomicInteger loaded = new AtomicInteger();
+        ExecutorService executor = getWarmupExecutor();
+
+        List<CompletableFuture<Void>> tasks = paths.stream()
+                .map(path -> CompletableFuture.runAsync(() -> {
+                    if (preloadOne(path)) loaded.incrementAndGet();
+                    onProgress.accept(done.incrementAndGet(), total);
+                }, executor))
+                .toList();
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).thenApply(ignored -> loaded.get());
+    }
+
+    /**
+     * @return whether the image or frames of the resource are currently cached (does not count as an access)
+     */
+    public synchronized boolean isCached(String path) {
+        return cache.containsKey(path) || cache.containsKey(FRAMES_KEY_PREFIX + path);
+    }
+
+    /**
+     * Drops every cached image and resets the memory accounting. Counters are kept.
+     */
+    public synchronized void clear() {
+        cache.clear();
+        usedBytes = 0;
+    }
+
+    public synchronized AssetStats getStats() {
+        return new AssetStats(hits.get(), misses.get(), evictions.get(), cache.size(), usedBytes, budgetBytes);
+    }
+
+    private boolean preloadOne(String path) {
+        return path.endsWith(".gif") ? getFrames(path) != null : get(path) != null;
+    }
+
+    private Object load(String key, Supplier<Object> decoder, Function<Object, Long> sizer) {
+        synchronized (this) {
+            Entry entry = cache.get(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+                return entry.asset();
+            }
+        }
+
+        misses.incrementAndGet();
+        Object asset = decoder.get();
+        if (asset == null) return null;
+
+        synchronized (this) {
+            Entry existing = cache.get(key);
+            if (existing != null) return existing.asset();
+
+            Entry entry = new Entry(asset, sizer.apply(asset));
+            cache.put(key, entry);
+            usedBytes += entry.bytes();
+            evictOverBudget(key);
+        }
+        return asset;
+    }
+
+    private synchronized ExecutorService getWarmupExecutor() {
+        if (warmupExecutor == null) {
+            warmupExecutor = Executors.newFixedThreadPool(WARMUP_THREADS, runnable -> {
+                Thread thread = new Thread(runnable, "asset-warmup");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return warmupExecutor;
+    }
+
+    private void evictOverBudget(String keep) {
+        Iterator<Map.Entry<String, Entry>> it = cache.entrySet().iterator();
+        while (usedBytes > budgetBytes && it.hasNext()) {
+            Map.Entry<String, Entry> eldest = it.next();
+            if (eldest.getKey().equals(keep)) continue;
+            usedBytes -= eldest.getValue().bytes();
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private Image decode(String path) {
+        try (InputStream stream = AssetManager.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                logger.warning("Image resource not found: " + path);
+                return null;
+            }
+            // read fully first so the decoder works on memory instead of a jar stream
+            return new Image(new ByteArrayInputStream(stream.readAllBytes()));
+        } catch (IOException e) {
+            logger.warning("Failed to read image " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Decodes every frame of a GIF, compositing partial frames over the previous ones
+     * and honouring the "restore to background" disposal used by the attack animations.
+     */
+    private FrameSequence decodeFrames(String path) {
+        byte[] bytes;
+        try (InputStream stream = AssetManager.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                logger.warning("Image resource not found: " + path);
+                return null;
+            }
+            bytes = stream.readAllBytes();
+        } catch (IOException e) {
+            logger.warning("Failed to read image " + path + ": " + e.getMessage());
+            return null;
+        }
+
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
+        if (!readers.hasNext()) return null;
+        ImageReader reader = readers.next();
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            reader.setInput(input);
+            int count = reader.getNumImages(true);
+            if (count <= 0) return null;
+
+            Node screen = child(reader.getStreamMetadata(), "javax_imageio_gif_stream_1.0", "LogicalScreenDescriptor");
+            BufferedImage first = reader.read(0);
+            int width = screen != null ? intAttribute(screen, "logicalScreenWidth", first.getWidth()) : first.getWidth();
+            int height = screen != null ? intAttribute(screen, "logicalScreenHeight", first.getHeight()) : first.getHeight();
+
+            BufferedImage canvas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = canvas.createGraphics();
+            List<Image> frames = new ArrayList<>(count);
+            long frameNanos = 0;
+            try {
+                for (int i = 0; i < count; i++) {
+                    BufferedImage raw = i == 0 ? first : reader.read(i);
+                    IIOMetadata metadata = reader.getImageMetadata(i);
+                    Node descriptor = child(metadata, "javax_imageio_gif_image_1.0", "ImageDescriptor");
+                    Node control = child(metadata, "javax_imageio_gif_image_1.0", "GraphicControlExtension");
+                    int left = descriptor != null ? intAttribute(descriptor, "imageLeftPosition", 0) : 0;
+                    int top = descriptor != null ? intAttribute(descriptor, "imageTopPosition", 0) : 0;
+
+                    g.drawImage(raw, left, top, null);
+                    frames.add(toFxImage(canvas));
+
+                    if (i == 0 && control != null) frameNanos = intAttribute(control, "delayTime", 0) * 10_000_000L;
+                    if (control != null && "restoreToBackgroundColor".equals(attribute(control, "disposalMethod"))) {
+                        g.setComposite(AlphaComposite.Clear);
+                        g.fillRect(left, top, raw.getWidth(), raw.getHeight());
+                        g.setComposite(AlphaComposite.SrcOver);
+                    }
+                }
+            } finally {
+                g.dispose();
+            }
+            return new FrameSequence(List.copyOf(frames), Math.max(MIN_FRAME_NANOS, frameNanos));
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to decode frames of " + path + ": " + e.getMessage());
+            return null;
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private static Image toFxImage(BufferedImage source) {
+        int width = source.getWidth(), height = source.getHeight();
+        int[] argb = source.getRGB(0, 0, width, height, null, 0, width);
+        WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+        return image;
+    }
+
+    private static Node child(IIOMetadata metadata, String format, String name) {
+        if (metadata == null) return null;
+        for (Node node = metadata.getAsTree(format).getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeName().equals(name)) return node;
+        }
+        return null;
+    }
+
+    private static String attribute(Node node, String name) {
+        NamedNodeMap attributes = node.getAttributes();
+        Node value = attributes == null ? null : attributes.getNamedItem(name);
+        return value == null ? null : value.getNodeValue();
+    }
+
+    private static int intAttribute(Node node, String name, int defaultValue) {
+        String value = attribute(node, name);
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static long estimateBytes(Image image) {
+        return Math.max(1L, (long) image.getWidth() * (long) image.getHeight() * 4L);
+    }
+}
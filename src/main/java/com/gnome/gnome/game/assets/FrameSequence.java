@@ -0,0 +1,41 @@
+package com.gnome.gnome.game.assets;
+
+import javafx.scene.image.Image;
+
+import java.util.List;
+
+/**
+ * The frames of an animated sprite (a decoded GIF), each shown for {@code frameNanos}.
+ * <p>
+ * The frames are fully composited images, so any frame can be drawn on its own. A sequence holds no
+ * playback state and is shared by every sprite playing it; where a sprite currently is in the
+ * animation is tracked by the {@link com.gnome.gnome.game.animation.TweenManager}.
+ * </p>
+ *
+ * @param frames     the frames in playback order, never empty
+ * @param frameNanos how long each frame is shown
+ */
+public record FrameSequence(List<Image> frames, long frameNanos) {
+
+    /**
+     * @return the length of one playback in nanoseconds
+     */
+    public long durationNanos() {
+        return frames.size() * frameNanos;
+    }
+
+    /**
+     * @param elapsedNanos time since playback started
+     * @param loop         whether playback restarts after the last frame
+     * @return the frame to show
+     */
+    public Image frameAt(long elapsedNanos, boolean loop) {
+        int index = (int) (Math.max(0, elapsedNanos) / frameNanos);
+        index = loop ? index % frames.size() : Math.min(index, frames.size() - 1);
+        return frames.get(index);
+    }
+
+    public Image last() {
+        return frames.get(frames.size() - 1);
+    }
+}
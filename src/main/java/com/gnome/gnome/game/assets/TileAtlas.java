@@ -0,0 +1,86 @@
+package com.gnome.gnome.game.assets;
+
+import com.gnome.gnome.editor.utils.TypeOfObjects;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Map tiles drawn straight from the packed sprite sheet {@code colored_packed.png}.
+ * <p>
+ * The sheet is decoded once and every tile is addressed by a source rectangle derived from
+ * {@link TypeOfObjects#getAtlasIndex()} (49 tiles per row, 16x16 pixels each). Adding a tile type
+ * therefore only needs a new enum constant. Types whose artwork was redrawn in a separate file
+ * (the chests) are not part of the atlas and are loaded from their own image instead.
+ * </p>
+ */
+public class TileAtlas {
+    public static final String SHEET_PATH = "/com/gnome/gnome/images/colored_packed.png";
+    /** Edge length of a tile in the sheet */
+    public static final int TILE_SIZE = 16;
+
+    private static TileAtlas instance;
+
+    @Getter
+    private final Image sheet;
+    private final int columns;
+    private final int tileCount;
+    private final Map<TypeOfObjects, Rectangle2D> sourceRects = new EnumMap<>(TypeOfObjects.class);
+
+    /**
+     * @param sheet the decoded sprite sheet
+     */
+    TileAtlas(Image sheet) {
+        this.sheet = sheet;
+        this.columns = (int) sheet.getWidth() / TILE_SIZE;
+        this.tileCount = columns * ((int) sheet.getHeight() / TILE_SIZE);
+
+        for (TypeOfObjects type : TypeOfObjects.values()) {
+            int index = type.getAtlasIndex();
+            if (index < 0 || index >= tileCount) continue;
+            sourceRects.put(type, new Rectangle2D(
+                    (index % columns) * TILE_SIZE, (index / columns) * TILE_SIZE, TILE_SIZE, TILE_SIZE));
+        }
+    }
+
+    public static synchronized TileAtlas getInstance() {
+        if (instance == null) {
+            instance = new TileAtlas(AssetManager.getInstance().require(SHEET_PATH));
+        }
+        return instance;
+    }
+
+    /**
+     * @return whether the type is drawn from the sheet
+     */
+    public boolean contains(TypeOfObjects type) {
+        return sourceRects.containsKey(type);
+    }
+
+    /**
+     * @return the area of the sheet holding the type's artwork, or {@code null} if the type is not in the atlas
+     */
+    public Rectangle2D getSourceRect(TypeOfObjects type) {
+        return sourceRects.get(type);
+    }
+
+    /**
+     * Creates a view showing the artwork of a tile type. Views of atlas tiles share the sheet
+     * and only differ in their viewport.
+     *
+     * @param type the tile type
+     * @return a new image view, empty if the artwork is missing
+     */
+    public ImageView createView(TypeOfObjects type) {
+        Rectangle2D src = sourceRects.get(type);
+        if (src == null) return new ImageView(AssetManager.getInstance().get(type.getImagePath()));
+
+        ImageView view = new ImageView(sheet);
+        view.setViewport(src);
+        return view;
+    }
+}
@@ -1,6 +1,7 @@
 package com.gnome.gnome.game.camera;
+import com.gnome.gnome.game.assets.AssetManager;
+import com.gnome.gnome.game.assets.TileAtlas;
 import com.gnome.gnome.game.component.Coin;
-import com.gnome.gnome.editor.utils.TypeOfObjects;
 import com.gnome.gnome.models.Armor;
 import com.gnome.gnome.models.Potion;
 import com.gnome.gnome.models.Weapon;
@@ -8,18 +9,19 @@ import com.gnome.gnome.game.player.Player;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
 import lombok.Data;
-import java.io.InputStream;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.logging.Logger;
 
 /**
  * The Camera class is responsible for rendering a 15x15 viewport of the map,
  * centered around a specific point, typically the player's position.
  * It only shows a portion of the full map to simulate a camera view.
+ * <p>
+ * The map layer is pre-rasterized into a {@link MapLayerImage} and the viewport is drawn with a
+ * single source-rectangle blit, skipped entirely while the origin, tile size and baked image are
+ * unchanged. Coins and other per-frame overlays go to a separate canvas.
+ * </p>
  */
 @Data
 public class Camera {
@@ -29,7 +31,6 @@ public class Camera {
     private static final double ITEM_BOX_EXTRA_HEIGHT = 40;
     private static final double COIN_BOX_WIDTH_MULTIPLIER = 2.5;
 
-    private static final Map<String, Image> imageCache = new HashMap<>();
     private static Camera instance;
 
     private final int[][] mapGrid;
@@ -45,6 +46,13 @@ public class Camera {
     private int cameraCenterX, cameraCenterY, startRow, startCol;
     private double tileWidth, tileHeight, dynamicTileSize;
 
+    private final MapLayerImage mapLayer;
+
+    // What the map canvas currently shows, used to skip redundant blits
+    private int renderedStartRow = -1, renderedStartCol = -1;
+    private double renderedTileWidth = -1, renderedTileHeight = -1;
+    private boolean mapLayerChanged = true;
+
     private Camera(int[][] map, int centerX, int centerY, Player player, Armor armor, Weapon weapon, Potion potion) {
         this.mapGrid = map;
         this.cameraCenterX = centerX;
@@ -53,6 +61,7 @@ public class Camera {
         this.armor = armor;
         this.weapon = weapon;
         this.potion = potion;
+        this.mapLayer = new MapLayerImage(map, VIEWPORT_SIZE, TileAtlas.getInstance());
     }
 
     public static Camera getInstance(int[][] map, int centerX, int centerY, Player player, Armor armor, Weapon weapon, Potion potion) {
@@ -72,8 +81,18 @@ public class Camera {
     }
 
     public void updateCameraCenter() {
-        cameraCenterX = player.getX();
-        cameraCenterY = player.getY();
+        updateCameraCenter(player.getX(), player.getY());
+    }
+
+    /**
+     * Centers the camera on the given cell, clamped to the map bounds.
+     *
+     * @param centerX the column to center on
+     * @param centerY the row to center on
+     */
+    public void updateCameraCenter(int centerX, int centerY) {
+        cameraCenterX = centerX;
+        cameraCenterY = centerY;
         clampCameraCenter();
     }
 
@@ -85,55 +104,61 @@ public class Camera {
         cameraCenterY = Math.max(half, Math.min(cameraCenterY, maxY));
     }
 
-    public void drawViewport(Canvas canvas, List<Coin> coins) {
-        GraphicsContext gc = canvas.getGraphicsContext2D();
-        this.tileWidth = canvas.getWidth() / VIEWPORT_SIZE;
-        this.tileHeight = canvas.getHeight() / VIEWPORT_SIZE;
+    /**
+     * Draws the visible part of the map and the coins lying on it.
+     *
+     * @param mapCanvas     canvas holding the map tiles, only repainted when the view or map changed
+     * @param overlayCanvas canvas above the map, cleared and redrawn every frame
+     * @param coins         coins to draw on the overlay
+     */
+    public void drawViewport(Canvas mapCanvas, Canvas overlayCanvas, List<Coin> coins) {
+        this.tileWidth = mapCanvas.getWidth() / VIEWPORT_SIZE;
+        this.tileHeight = mapCanvas.getHeight() / VIEWPORT_SIZE;
         this.dynamicTileSize = Math.min(tileWidth, tileHeight);
 
         int half = VIEWPORT_SIZE / 2;
         startRow = Math.max(0, Math.min(cameraCenterY - half, mapGrid.length - VIEWPORT_SIZE));
         startCol = Math.max(0, Math.min(cameraCenterX - half, mapGrid[0].length - VIEWPORT_SIZE));
 
-        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-
-        for (int row = 0; row < VIEWPORT_SIZE; row++) {
-            for (int col = 0; col < VIEWPORT_SIZE; col++) {
-                int mapRow = startRow + row;
-                int mapCol = startCol + col;
-
-                double x = col * tileWidth;
-                double y = row * tileHeight;
-
-                TypeOfObjects tileType = (mapRow >= 0 && mapRow < mapGrid.length && mapCol >= 0 && mapCol < mapGrid[0].length)
-                        ? TypeOfObjects.fromValue(mapGrid[mapRow][mapCol])
-                        : TypeOfObjects.MOUNTAIN;
+        drawMapLayer(mapCanvas);
 
-                Image img = getCachedTileImage(tileType.getImagePath());
-                if (img != null) {
-                    gc.drawImage(img, x, y, tileWidth, tileHeight);
-                } else {
-                    gc.setFill(Color.GRAY);
-                    gc.fillRect(x, y, tileWidth, tileHeight);
-                }
+        GraphicsContext overlay = overlayCanvas.getGraphicsContext2D();
+        overlay.clearRect(0, 0, overlayCanvas.getWidth(), overlayCanvas.getHeight());
+        drawCoins(overlay, coins);
+    }
 
-                gc.setStroke(Color.BLACK);
-                gc.strokeRect(x, y, tileWidth, tileHeight);
-            }
-        }
+    private void drawMapLayer(Canvas canvas) {
+        boolean resized = tileWidth != renderedTileWidth || tileHeight != renderedTileHeight;
+        boolean moved = startRow != renderedStartRow || startCol != renderedStartCol;
+        if (!resized && !moved && !mapLayerChanged) return;
 
-        drawCoins(gc, coins);
+        int tile = MapLayerImage.NATIVE_TILE_SIZE;
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gc.setImageSmoothing(false);
+        gc.drawImage(mapLayer.getImage(),
+                startCol * tile, startRow * tile, VIEWPORT_SIZE * tile, VIEWPORT_SIZE * tile,
+                0, 0, VIEWPORT_SIZE * tileWidth, VIEWPORT_SIZE * tileHeight);
+
+        mapLayerChanged = false;
+        renderedStartRow = startRow;
+        renderedStartCol = startCol;
+        renderedTileWidth = tileWidth;
+        renderedTileHeight = tileHeight;
     }
 
     private void drawCoins(GraphicsContext gc, List<Coin> coins) {
+        if (coins.isEmpty()) return;
+        Image coinImage = AssetManager.getInstance().get(Coin.IMAGE_PATH);
+        if (coinImage == null) return;
+
         for (Coin coin : coins) {
-            int x = coin.getGridX() - startCol;
-            int y = coin.getGridY() - startRow;
+            int x = coin.gridX() - startCol;
+            int y = coin.gridY() - startRow;
             if (x >= 0 && x < VIEWPORT_SIZE && y >= 0 && y < VIEWPORT_SIZE) {
-                double imgX = x * tileWidth + (tileWidth - coin.getImageView().getFitWidth()) / 2;
-                double imgY = y * tileHeight + (tileHeight - coin.getImageView().getFitHeight()) / 2;
-                gc.drawImage(coin.getImageView().getImage(), imgX, imgY,
-                        coin.getImageView().getFitWidth(), coin.getImageView().getFitHeight());
+                double imgX = x * tileWidth + (tileWidth - Coin.DRAW_SIZE) / 2;
+                double imgY = y * tileHeight + (tileHeight - Coin.DRAW_SIZE) / 2;
+                gc.drawImage(coinImage, imgX, imgY, Coin.DRAW_SIZE, Coin.DRAW_SIZE);
             }
         }
     }
@@ -143,16 +168,4 @@ public class Camera {
                 y >= startRow && y < startRow + VIEWPORT_SIZE;
     }
 
-    // Для тайлів (tile images)
-    private Image getCachedTileImage(String path) {
-        return imageCache.computeIfAbsent(path, key -> {
-            InputStream is = TypeOfObjects.class.getResourceAsStream(path);
-            if (is == null) {
-                logger.warning("Tile image not found: " + path);
-                return null;
-            }
-            return new Image(is);
-        });
-    }
-
 }
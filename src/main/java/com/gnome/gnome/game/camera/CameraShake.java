@@ -0,0 +1,66 @@
+package com.gnome.gnome.game.camera;
+
+import lombok.Getter;
+
+import java.util.Random;
+
+/**
+ * Screen shake as simulation state: a trauma value in {@code [0, 1]} that hits increase and time decays.
+ * <p>
+ * The shake offset is recomputed every tick from the squared trauma, so a single hit gives a short
+ * small shake, and hits landing while the screen still shakes merge into one stronger effect instead
+ * of starting another. Advanced on the simulation thread; the renderer only applies the offset
+ * published in the frame snapshot.
+ * </p>
+ */
+public class CameraShake {
+    /** Offset in pixels at full trauma */
+    private static final double MAX_OFFSET_PX = 10;
+    /** Trauma lost per second */
+    private static final double DECAY_PER_SECOND = 1.4;
+
+    private final Random random;
+    private double trauma;
+
+    @Getter
+    private double offsetX;
+    @Getter
+    private double offsetY;
+
+    /**
+     * @param random source of the shake direction, seeded per session so replays shake the same way
+     */
+    public CameraShake(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * @param amount trauma to add, the total is capped at 1
+     */
+    public void addTrauma(double amount) {
+        trauma = Math.min(1.0, trauma + amount);
+    }
+
+    /**
+     * Decays the trauma by one step and picks the offset for it.
+     *
+     * @param stepNanos length of the simulated step
+     */
+    public void advance(long stepNanos) {
+        if (trauma <= 0) {
+            offsetX = 0;
+            offsetY = 0;
+            return;
+        }
+        trauma = Math.max(0, trauma - DECAY_PER_SECOND * stepNanos / 1_000_000_000.0);
+        double shake = trauma * trauma * MAX_OFFSET_PX;
+        offsetX = shake * (random.nextDouble() * 2 - 1);
+        offsetY = shake * (random.nextDouble() * 2 - 1);
+    }
+
+    public void reset() {
+        trauma = 0;
+        offsetX = 0;
+        offsetY = 0;
+    }
+}
@@ -0,0 +1,177 @@
+package com.gnome.gnome.game.camera;
+
+import com.gnome.gnome.game.animation.TweenManager;
+import com.gnome.gnome.game.assets.FrameSequence;
+import com.gnome.gnome.game.engine.FrameSnapshot;
+import com.gnome.gnome.game.monsters.GameMonster;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Draws chests, monsters and the player onto a dedicated canvas layer in one pass.
+ * <p>
+ * Every frame the visible entities are culled against {@link Camera#isInView(int, int)},
+ * collected into a reusable batch, sorted by row (then by layer, so the player is drawn
+ * above a monster on the same row) and blitted onto the canvas. The scene graph therefore
+ * stays the same size no matter how many entities the map holds.
+ * </p>
+ * <p>
+ * Animation comes from the {@link TweenManager}: when a monster or the player shows up on a new
+ * tile it slides there over {@link #MOVE_TWEEN_NANOS}, and monster hit/attack effects and chest
+ * openings are drawn frame by frame from their {@link FrameSequence}.
+ * </p>
+ * <p>
+ * Must only be used on the FX thread.
+ * </p>
+ */
+public class EntityRenderer {
+    private static final int LAYER_CHEST = 0;
+    private static final int LAYER_MONSTER = 1;
+    private static final int LAYER_PLAYER = 2;
+
+    /** Fraction of a tile covered by chest sprites */
+    private static final double CHEST_SCALE = 0.8;
+    /** Fraction of a tile covered by monster and player sprites */
+    private static final double CHARACTER_SCALE = 0.6;
+    /** How long a sprite takes to slide to a neighbouring tile */
+    private static final long MOVE_TWEEN_NANOS = 120_000_000L;
+
+    private static final Comparator<Sprite> DRAW_ORDER =
+            Comparator.comparingInt((Sprite s) -> s.row).thenComparingInt(s -> s.layer);
+
+    /** Identity key of the player's tweens */
+    private final Object playerKey = new Object();
+
+    private final Image playerImage;
+    private final TweenManager tweens;
+    private final List<Sprite> pool = new ArrayList<>();
+    private final List<Sprite> batch = new ArrayList<>();
+    /** Last drawn tile of every moving entity: {column, row, frame stamp} */
+    private final Map<Object, int[]> lastTiles = new IdentityHashMap<>();
+    private int frameStamp = 0;
+
+    /**
+     * @param playerImage the sprite drawn at the player's position
+     * @param tweens      the animation system advanced by the game loop
+     */
+    public EntityRenderer(Image playerImage, TweenManager tweens) {
+        this.playerImage = playerImage;
+        this.tweens = tweens;
+    }
+
+    /**
+     * Clears the canvas and draws every visible entity of the frame.
+     *
+     * @param canvas the entity layer, laid out on top of the map
+     * @param camera the camera whose viewport was drawn for this frame
+     * @param frame  the state to draw
+     */
+    public void render(Canvas canvas, Camera camera, FrameSnapshot frame) {
+        batch.clear();
+        frameStamp++;
+
+        for (FrameSnapshot.ChestFrame chest : frame.chests()) {
+            Image image = tweens.getFrame(chest.chest(), chest.chest().getImage());
+            addIfVisible(camera, image, chest.x(), chest.y(), chest.x(), chest.y(), LAYER_CHEST, CHEST_SCALE);
+        }
+        for (FrameSnapshot.MonsterFrame monster : frame.monsters()) {
+            GameMonster m = monster.monster();
+            trackMove(m, monster.x(), monster.y());
+            if (!camera.isInView(monster.x(), monster.y())) continue;
+            addIfVisible(camera, monsterImage(m, monster), tweens.getX(m, monster.x()), tweens.getY(m, monster.y()),
+                    monster.x(), monster.y(), LAYER_MONSTER, CHARACTER_SCALE);
+        }
+        trackMove(playerKey, frame.playerX(), frame.playerY());
+        addIfVisible(camera, playerImage, tweens.getX(playerKey, frame.playerX()), tweens.getY(playerKey, frame.playerY()),
+                frame.playerX(), frame.playerY(), LAYER_PLAYER, CHARACTER_SCALE);
+
+        // forget entities that were not in this frame (killed monsters), including their running tweens
+        lastTiles.entrySet().removeIf(entry -> {
+            if (entry.getValue()[2] == frameStamp) return false;
+            tweens.stop(entry.getKey(), TweenManager.Channel.MOVE);
+            tweens.stop(entry.getKey(), TweenManager.Channel.SPRITE);
+            return true;
+        });
+
+        batch.sort(DRAW_ORDER);
+
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        double tileWidth = camera.getTileWidth();
+        double tileHeight = camera.getTileHeight();
+
+        for (Sprite sprite : batch) {
+            double width = tileWidth * sprite.scale;
+            double height = tileHeight * sprite.scale;
+            double x = (sprite.x - camera.getStartCol()) * tileWidth + (tileWidth - width) / 2;
+            double y = (sprite.y - camera.getStartRow()) * tileHeight + (tileHeight - height) / 2;
+            gc.drawImage(sprite.image, x, y, width, height);
+        }
+    }
+
+    /**
+     * Starts a slide when an entity is seen on a different tile than in the previous frame.
+     */
+    private void trackMove(Object key, int col, int row) {
+        int[] last = lastTiles.get(key);
+        if (last == null) {
+            lastTiles.put(key, new int[]{col, row, frameStamp});
+            return;
+        }
+        if (last[0] != col || last[1] != row) {
+            tweens.move(key, last[0], last[1], col, row, MOVE_TWEEN_NANOS);
+            last[0] = col;
+            last[1] = row;
+        }
+        last[2] = frameStamp;
+    }
+
+    /**
+     * Loops the hit or attack frames while the effect lasts, otherwise the default sprite.
+     */
+    private Image monsterImage(GameMonster monster, FrameSnapshot.MonsterFrame frame) {
+        FrameSequence effect = monster.getEffectFrames(frame);
+        if (effect == null) {
+            tweens.stop(monster, TweenManager.Channel.SPRITE);
+            return monster.getDefaultImage();
+        }
+        if (!tweens.isPlaying(monster, effect)) tweens.play(monster, effect, true, null);
+        return tweens.getFrame(monster, monster.getDefaultImage());
+    }
+
+    private void addIfVisible(Camera camera, Image image, double x, double y, int col, int row, int layer, double scale) {
+        if (image == null || !camera.isInView(col, row)) return;
+
+        Sprite sprite;
+        if (batch.size() < pool.size()) {
+            sprite = pool.get(batch.size());
+        } else {
+            sprite = new Sprite();
+            pool.add(sprite);
+        }
+        sprite.image = image;
+        sprite.x = x;
+        sprite.y = y;
+        sprite.row = row;
+        sprite.layer = layer;
+        sprite.scale = scale;
+        batch.add(sprite);
+    }
+
+    /**
+     * Mutable draw command, pooled across frames to avoid per-frame allocation.
+     */
+    private static final class Sprite {
+        private Image image;
+        private double x, y;
+        private int row, layer;
+        private double scale;
+    }
+}
@@ -0,0 +1,123 @@
+package com.gnome.gnome.game.camera;
+
+import com.gnome.gnome.editor.utils.TypeOfObjects;
+import com.gnome.gnome.game.assets.AssetManager;
+import com.gnome.gnome.game.assets.TileAtlas;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Off-screen raster of the static map layer at native tile resolution (16x16 pixels per tile).
+ * <p>
+ * The whole map is rasterized once, with the black grid lines baked into the top and left
+ * edge of every tile, so the camera can draw any viewport with a single source-rectangle
+ * {@code drawImage} call.
+ * </p>
+ * <p>
+ * Tile artwork is copied out of the packed sheet of the {@link TileAtlas}; only types that are not
+ * part of the atlas are read from their own image file.
+ * </p>
+ * <p>
+ * Maps smaller than the viewport are padded with {@link TypeOfObjects#MOUNTAIN} tiles.
+ * </p>
+ */
+public class MapLayerImage {
+    /** Edge length of a tile in the source artwork */
+    public static final int NATIVE_TILE_SIZE = TileAtlas.TILE_SIZE;
+
+    private static final int GRID_LINE_ARGB = 0xFF000000;
+    private static final int MISSING_TILE_ARGB = 0xFF808080;
+
+    private final int[][] mapGrid;
+    private final TileAtlas atlas;
+    private final Map<TypeOfObjects, int[]> tilePixels = new EnumMap<>(TypeOfObjects.class);
+
+    @Getter
+    private final int rows;
+    @Getter
+    private final int cols;
+    @Getter
+    private final WritableImage image;
+
+    /**
+     * @param mapGrid    the map to rasterize, indexed {@code [row][col]}
+     * @param minSize    minimum number of rows and columns to bake (the viewport size)
+     * @param atlas      source of the tile artwork
+     */
+    public MapLayerImage(int[][] mapGrid, int minSize, TileAtlas atlas) {
+        this.mapGrid = mapGrid;
+        this.atlas = atlas;
+        this.rows = Math.max(minSize, mapGrid.length);
+        this.cols = Math.max(minSize, mapGrid.length == 0 ? 0 : mapGrid[0].length);
+        this.image = new WritableImage(cols * NATIVE_TILE_SIZE, rows * NATIVE_TILE_SIZE);
+        bakeAll();
+    }
+
+    /**
+     * Rasterizes every tile of the map.
+     */
+    public void bakeAll() {
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                bakeTile(row, col);
+            }
+        }
+    }
+
+    /**
+     * Rasterizes a single tile.
+     *
+     * @param row the tile row
+     * @param col the tile column
+     */
+    private void bakeTile(int row, int col) {
+        if (row < 0 || col < 0 || row >= rows || col >= cols) return;
+        PixelWriter writer = image.getPixelWriter();
+        writer.setPixels(col * NATIVE_TILE_SIZE, row * NATIVE_TILE_SIZE, NATIVE_TILE_SIZE, NATIVE_TILE_SIZE,
+                PixelFormat.getIntArgbInstance(), pixelsOf(TypeOfObjects.fromValue(valueAt(row, col))), 0, NATIVE_TILE_SIZE);
+    }
+
+    private int valueAt(int row, int col) {
+        boolean inMap = row < mapGrid.length && col < mapGrid[row].length;
+        return inMap ? mapGrid[row][col] : TypeOfObjects.MOUNTAIN.getValue();
+    }
+
+    /**
+     * Returns the baked pixels of a tile type (artwork plus grid lines), decoding them on first use.
+     */
+    private int[] pixelsOf(TypeOfObjects type) {
+        return tilePixels.computeIfAbsent(type, t -> {
+            int[] pixels = new int[NATIVE_TILE_SIZE * NATIVE_TILE_SIZE];
+            Rectangle2D src = atlas.getSourceRect(t);
+            Image tile = src != null ? atlas.getSheet() : AssetManager.getInstance().get(t.getImagePath());
+            PixelReader reader = tile == null ? null : tile.getPixelReader();
+            if (src == null && tile != null) src = new Rectangle2D(0, 0, tile.getWidth(), tile.getHeight());
+
+            for (int y = 0; y < NATIVE_TILE_SIZE; y++) {
+                for (int x = 0; x < NATIVE_TILE_SIZE; x++) {
+                    int argb;
+                    if (x == 0 || y == 0) {
+                        argb = GRID_LINE_ARGB;
+                    } else if (reader == null) {
+                        argb = MISSING_TILE_ARGB;
+                    } else {
+                        // nearest-neighbour sampling in case the artwork is not 16x16
+                        int sx = (int) (src.getMinX() + x * src.getWidth() / NATIVE_TILE_SIZE);
+                        int sy = (int) (src.getMinY() + y * src.getHeight() / NATIVE_TILE_SIZE);
+                        argb = reader.getArgb(sx, sy);
+                    }
+                    pixels[y * NATIVE_TILE_SIZE + x] = argb;
+                }
+            }
+            return pixels;
+        });
+    }
+}
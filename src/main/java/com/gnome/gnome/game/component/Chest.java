@@ -1,12 +1,12 @@
 package com.gnome.gnome.game.component;
 
+import com.gnome.gnome.game.animation.TweenManager;
+import com.gnome.gnome.game.assets.AssetManager;
+import com.gnome.gnome.game.assets.FrameSequence;
 import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.Objects;
-
 import static com.gnome.gnome.editor.utils.EditorConstants.TILE_SIZE;
 import static com.gnome.gnome.game.component.ObjectsConstants.COIN_IMAGE;
 
@@ -26,46 +26,36 @@ public class Chest {
      */
     private final double value;
     /**
-     * The image used to visually represent the coin in the UI.
+     * The image drawn for the chest while no animation plays: the closed sprite, or the last opening frame once opened.
      */
-    private final ImageView imageView;
+    private Image image;
     private final String gifPath;
 
     private boolean opened = false;
+    /**
+     * Whether the opening animation has already been started by the renderer.
+     */
+    private boolean animated = false;
 
     public Chest(int gridX, int gridY, double value, String imagePath, String gifPath) {
         this.gridX = gridX;
         this.gridY = gridY;
         this.value = value;
 
-        this.imageView = new ImageView(
-                new Image(
-                        Objects.requireNonNull(
-                                Coin.class.getResourceAsStream(imagePath)
-                        )
-                )
-        );
+        this.image = AssetManager.getInstance().require(imagePath);
 
         this.gifPath = gifPath;
     }
 
-    // This function should change image to gif(/effects/animated_chest_1s.gif. And this animation should play only one time
-    public void animate() {
-        Image image = new Image(Objects.requireNonNull(getClass().getResourceAsStream(gifPath)));
-
-        imageView.setImage(image);
-    }
-
-
-    public void updatePositionWithCamera(int cameraStartCol, int cameraStartRow, double tileWidth, double tileHeight) {
-        double px = (gridX - cameraStartCol) * tileWidth;
-        double py = (gridY - cameraStartRow) * tileHeight;
-
-        imageView.setTranslateX(px + tileWidth * 0.1);
-        imageView.setTranslateY(py + tileHeight * 0.1);
-
-        imageView.setFitWidth(tileWidth * 0.8);
-        imageView.setFitHeight(tileHeight * 0.8);
+    /**
+     * Plays the opening animation once and then keeps showing its last frame.
+     *
+     * @param tweens the animation system driving the chest's sprite
+     */
+    public void animate(TweenManager tweens) {
+        FrameSequence opening = AssetManager.getInstance().getFrames(gifPath);
+        if (opening != null) tweens.play(this, opening, false, () -> image = opening.last());
+        animated = true;
     }
 
 }
@@ -1,56 +1,22 @@
 package com.gnome.gnome.game.component;
 
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import lombok.Getter;
-
-import java.util.Objects;
-
 import static com.gnome.gnome.game.component.ObjectsConstants.*;
 import static com.gnome.gnome.editor.utils.EditorConstants.TILE_SIZE;
 
 /**
- * Visual representation of a coin that appears on top of a tile.
+ * A coin lying on a tile.
+ * <p>
+ * Coins are plain values; every coin is drawn with the same shared {@link #IMAGE_PATH} image,
+ * so dropping coins does not allocate any image or scene graph node.
+ * </p>
+ *
+ * @param gridX the X position of the coin on the grid
+ * @param gridY the Y position of the coin on the grid
+ * @param value the value of the coin (amount added to player's coin count)
  */
-@Getter
-public class Coin {
-    /**
-     * The X position of the coin on the grid.
-     */
-    private final int gridX;
-    /**
-     * The Y position of the coin on the grid.
-     */
-    private final int gridY;
-    /**
-     * The value of the coin (amount added to player's coin count).
-     */
-    private final double value;
-    /**
-     * The image used to visually represent the coin in the UI.
-     */
-    private final ImageView imageView;
-
-    /**
-     * Constructs a new coin at the specified grid position with the given value.
-     *
-     * @param gridX the X coordinate on the map grid
-     * @param gridY the Y coordinate on the map grid
-     * @param value the numeric value of the coin
-     */
-    public Coin(int gridX, int gridY, double value) {
-        this.gridX = gridX;
-        this.gridY = gridY;
-        this.value = value;
-
-        this.imageView = new ImageView(
-                new Image(
-                        Objects.requireNonNull(
-                            Coin.class.getResourceAsStream("/com/gnome/gnome/images/" + COIN_IMAGE)
-                        )
-                )
-        );
-        imageView.setFitWidth(TILE_SIZE * 0.5);
-        imageView.setFitHeight(TILE_SIZE * 0.5);
-    }
-}
\ No newline at end of file
+public record Coin(int gridX, int gridY, double value) {
+    /** Image shared by all coins */
+    public static final String IMAGE_PATH = "/com/gnome/gnome/images/" + COIN_IMAGE;
+    /** Edge length, in pixels, the coin is drawn with */
+    public static final double DRAW_SIZE = TILE_SIZE * 0.5;
+}
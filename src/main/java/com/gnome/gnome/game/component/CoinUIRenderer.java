@@ -1,5 +1,6 @@
 package com.gnome.gnome.game.component;
 
+import com.gnome.gnome.game.assets.AssetManager;
 import com.gnome.gnome.game.player.Player;
 import com.gnome.gnome.userState.UserState;
 import javafx.geometry.Pos;
@@ -11,7 +12,6 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
-import java.io.InputStream;
 import java.util.logging.Logger;
 
 import static com.gnome.gnome.game.component.ObjectsConstants.COIN_IMAGE;
@@ -79,8 +79,19 @@ public class CoinUIRenderer {
     }
 
     public void update() {
+        update(getCoins());
+    }
+
+    /**
+     * Shows the given coin count instead of reading it from the player or user state.
+     * The game screen passes the count from its frame snapshot, since the player is
+     * updated on the simulation thread.
+     *
+     * @param coins the coin count to display
+     */
+    public void update(double coins) {
         if (coinCountLabel != null) {
-            coinCountLabel.setText("x" + getCoins());
+            coinCountLabel.setText("x" + coins);
         } else {
             render();
         }
@@ -98,7 +109,6 @@ public class CoinUIRenderer {
     }
 
     private Image loadImage(String path) {
-        InputStream stream = getClass().getResourceAsStream(path);
-        return stream != null ? new Image(stream) : null;
+        return AssetManager.getInstance().get(path);
     }
 }
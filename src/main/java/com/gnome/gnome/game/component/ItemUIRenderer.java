@@ -1,5 +1,6 @@
 package com.gnome.gnome.game.component;
 
+import com.gnome.gnome.game.assets.AssetManager;
 import com.gnome.gnome.dao.ArmorDAO;
 import com.gnome.gnome.dao.PotionDAO;
 import com.gnome.gnome.dao.WeaponDAO;
@@ -16,8 +17,6 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
-import java.io.InputStream;
-import java.util.Objects;
 
 public class ItemUIRenderer {
 
@@ -128,15 +127,12 @@ public class ItemUIRenderer {
 
 
     private Image loadImageOrDefault(String imagePath) {
-        InputStream stream;
-        System.out.println(imagePath);
         if (imagePath != null && !imagePath.isEmpty()) {
-            stream = getClass().getResourceAsStream("/com/gnome/gnome/images/tiles/" + imagePath + ".png");
-            if (stream != null) {
-                return new Image(stream);
+            Image image = AssetManager.getInstance().get("/com/gnome/gnome/images/tiles/" + imagePath + ".png");
+            if (image != null) {
+                return image;
             }
         }
-        InputStream defaultStream = getClass().getResourceAsStream(DEFAULT_IMAGE_PATH);
-        return new Image(Objects.requireNonNull(defaultStream));
+        return AssetManager.getInstance().require(DEFAULT_IMAGE_PATH);
     }
 }
@@ -0,0 +1,69 @@
+package com.gnome.gnome.game.engine;
+
+import com.gnome.gnome.game.component.Chest;
+import com.gnome.gnome.game.component.Coin;
+import com.gnome.gnome.game.monsters.GameMonster;
+
+import java.util.List;
+
+/**
+ * Immutable copy of everything the renderer needs to draw one frame.
+ * <p>
+ * Built on the simulation thread at the end of a tick batch and handed to the FX thread,
+ * which must read positions and flags from here instead of the live game objects.
+ * The {@code monster} and {@code chest} handles are only used to look up their JavaFX nodes.
+ * </p>
+ *
+ * @param tick         the last simulated tick included in this frame
+ * @param simTimeNanos simulated time of that tick, the clock of all animations
+ * @param playerX      player column
+ * @param playerY      player row
+ * @param playerHealth player health at the end of the tick
+ * @param playerMaxHealth player maximum health
+ * @param playerCoins  coins the player holds at the end of the tick
+ * @param playerScore  player score at the end of the tick
+ * @param shakeX       horizontal camera shake offset in pixels
+ * @param shakeY       vertical camera shake offset in pixels
+ * @param monsters     live monsters and their visual state
+ * @param chests       chests and whether they have been opened
+ * @param coins        coins lying on the tiles the camera shows
+ * @param nearTable    whether the player stands next to a crafting table
+ * @param nearChest    whether the player stands next to an unopened chest
+ */
+public record FrameSnapshot(long tick,
+                            long simTimeNanos,
+                            int playerX,
+                            int playerY,
+                            double playerHealth,
+                            double playerMaxHealth,
+                            double playerCoins,
+                            int playerScore,
+                            double shakeX,
+                            double shakeY,
+                            List<MonsterFrame> monsters,
+                            List<ChestFrame> chests,
+                            List<Coin> coins,
+                            boolean nearTable,
+                            boolean nearChest) {
+
+    /**
+     * Per-monster render state.
+     *
+     * @param monster   handle to the monster owning the sprite
+     * @param x         monster column
+     * @param y         monster row
+     * @param hitEffect whether the hit animation is playing
+     * @param attacking whether the melee attack animation is playing
+     */
+    public record MonsterFrame(GameMonster monster, int x, int y, boolean hitEffect, boolean attacking) {}
+
+    /**
+     * Per-chest render state.
+     *
+     * @param chest  handle to the chest owning the sprite
+     * @param x      chest column
+     * @param y      chest row
+     * @param opened whether the chest has been opened
+     */
+    public record ChestFrame(Chest chest, int x, int y, boolean opened) {}
+}
@@ -0,0 +1,60 @@
+package com.gnome.gnome.game.engine;
+
+import lombok.Getter;
+
+import java.util.Random;
+
+/**
+ * Per-session source of randomness.
+ * <p>
+ * A session has a single 64-bit seed. Every consumer (chest values, each monster, visual effects)
+ * gets its own {@link Random} derived from that seed and a stable stream name, so the values one
+ * consumer draws never depend on how often another consumer drew. Replaying a session with the
+ * same seed and the same inputs therefore reproduces it exactly.
+ * </p>
+ */
+public class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    @Getter
+    private final long seed;
+
+    /**
+     * @param seed the session seed
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Creates a session with a fresh seed.
+     */
+    public static GameRandom withRandomSeed() {
+        return new GameRandom(mix(System.nanoTime() ^ System.currentTimeMillis() * GOLDEN_GAMMA));
+    }
+
+    /**
+     * @param name stable name of the consumer, e.g. {@code "chests"}
+     * @return a new generator whose sequence only depends on the session seed and the name
+     */
+    public Random stream(String name) {
+        return stream(name, 0);
+    }
+
+    /**
+     * @param name  stable name of the consumer group, e.g. {@code "monster"}
+     * @param index index of the consumer within the group
+     * @return a new generator whose sequence only depends on the session seed, the name and the index
+     */
+    public Random stream(String name, long index) {
+        long streamSeed = mix(seed + GOLDEN_GAMMA * (name.hashCode() + 1L));
+        return new Random(mix(streamSeed + GOLDEN_GAMMA * (index + 1)));
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,194 @@
+package com.gnome.gnome.game.engine;
+
+import lombok.Getter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fixed-timestep simulation loop running on its own thread.
+ * <p>
+ * The engine advances the game in constant steps of {@code 1 / tickRate} seconds using an
+ * accumulator. If the thread falls behind (GC pause, slow tick), at most {@code maxCatchUpTicks}
+ * steps are replayed back to back and the remaining backlog is dropped, so the simulation never
+ * spirals trying to catch up.
+ * </p>
+ * <p>
+ * Work that must mutate game state from other threads (keyboard input on the FX thread) is
+ * handed over with {@link #submit(Runnable)} and executed at the start of the next tick.
+ * After every batch of ticks a fresh {@link FrameSnapshot} is published; the FX thread only
+ * reads {@link #getLatestSnapshot()} and never touches simulation state directly.
+ * </p>
+ */
+public class GameTickEngine {
+    private static final Logger logger = Logger.getLogger(GameTickEngine.class.getName());
+
+    /**
+     * Callback invoked once per simulation step on the engine thread.
+     */
+    @FunctionalInterface
+    public interface TickListener {
+        /**
+         * @param tick        the index of the step being simulated, starting at 0
+         * @param simTimeNanos simulated time of this step in nanoseconds ({@code tick * stepNanos})
+         */
+        void onTick(long tick, long simTimeNanos);
+    }
+
+    @Getter
+    private final int tickRate;
+    @Getter
+    private final long stepNanos;
+    private final int maxCatchUpTicks;
+
+    private final TickListener listener;
+    private final Supplier<FrameSnapshot> snapshotFactory;
+
+    private final Queue<Runnable> pendingCommands = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<FrameSnapshot> latestSnapshot = new AtomicReference<>();
+
+    private volatile boolean running = false;
+    private volatile boolean paused = false;
+    private volatile long currentTick = 0;
+    private Thread thread;
+
+    /**
+     * @param tickRate        simulation frequency in Hz
+     * @param maxCatchUpTicks maximum number of steps simulated in one go after a stall
+     * @param listener        the per-step simulation callback
+     * @param snapshotFactory builds the immutable frame published to the renderer
+     */
+    public GameTickEngine(int tickRate, int maxCatchUpTicks, TickListener listener, Supplier<FrameSnapshot> snapshotFactory) {
+        if (tickRate <= 0) throw new IllegalArgumentException("Tick rate must be positive: " + tickRate);
+        this.tickRate = tickRate;
+        this.stepNanos = 1_000_000_000L / tickRate;
+        this.maxCatchUpTicks = Math.max(1, maxCatchUpTicks);
+        this.listener = listener;
+        this.snapshotFactory = snapshotFactory;
+    }
+
+    /**
+     * Starts the simulation thread. Publishes an initial snapshot so the renderer
+     * has something to draw before the first tick completes.
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        latestSnapshot.set(snapshotFactory.get());
+        thread = new Thread(this::runLoop, "Game-Tick-Thread");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the simulation thread and waits for the current tick to finish,
+     * so callers may safely tear down game state afterwards.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread == null) return;
+        LockSupport.unpark(thread);
+        if (thread != Thread.currentThread()) {
+            try {
+                thread.join(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+        pendingCommands.clear();
+    }
+
+    public void pause() {
+        paused = true;
+    }
+
+    public void resume() {
+        paused = false;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Queues a command to be executed on the engine thread before the next tick.
+     *
+     * @param command the state mutation to run
+     */
+    public void submit(Runnable command) {
+        pendingCommands.add(command);
+    }
+
+    /**
+     * @return the index of the tick currently being (or last) simulated
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return simulated time of the current tick in nanoseconds
+     */
+    public long getSimTimeNanos() {
+        return currentTick * stepNanos;
+    }
+
+    /**
+     * @return the most recently published frame, never {@code null} once started
+     */
+    public FrameSnapshot getLatestSnapshot() {
+        return latestSnapshot.get();
+    }
+
+    private void runLoop() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+
+        while (running) {
+            long now = System.nanoTime();
+            accumulator += now - previous;
+            previous = now;
+
+            if (paused) {
+                accumulator = 0;
+                LockSupport.parkNanos(stepNanos);
+                continue;
+            }
+
+            int steps = 0;
+            while (accumulator >= stepNanos && steps < maxCatchUpTicks && running) {
+                step();
+                accumulator -= stepNanos;
+                steps++;
+            }
+
+            if (accumulator >= stepNanos) {
+                logger.fine("Simulation fell behind, dropping " + (accumulator / stepNanos) + " tick(s)");
+                accumulator = 0;
+            }
+
+            if (steps > 0) latestSnapshot.set(snapshotFactory.get());
+
+            LockSupport.parkNanos(stepNanos - accumulator);
+        }
+    }
+
+    private void step() {
+        try {
+            Runnable command;
+            while ((command = pendingCommands.poll()) != null) {
+                command.run();
+            }
+            listener.onTick(currentTick, getSimTimeNanos());
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Tick " + currentTick + " failed: " + e.getMessage(), e);
+        }
+        currentTick++;
+    }
+}
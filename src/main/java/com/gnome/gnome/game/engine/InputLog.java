@@ -0,0 +1,162 @@
+package com.gnome.gnome.game.engine;
+
+import javafx.scene.input.KeyCode;
+import lombok.Getter;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Compact log of the keys the simulation processed, stamped with their tick.
+ * <p>
+ * Together with the session seed ({@link GameRandom}) and the map, the log is enough to replay a
+ * session tick for tick. Events are recorded on the simulation thread when a key is handled, and
+ * on replay they are fed back at the start of the same tick.
+ * </p>
+ * <p>
+ * File format (big endian): magic {@code "GNRP"}, format version byte, seed (long), map id (int),
+ * event count (int), then per event the tick delta to the previous event as an unsigned varint
+ * followed by one byte indexing {@link #KEYS}.
+ * </p>
+ */
+public class InputLog {
+    private static final int MAGIC = 0x474E5250; // "GNRP"
+    private static final int VERSION = 1;
+
+    /** Keys the game reacts to; the index of a key is its on-disk code */
+    private static final KeyCode[] KEYS = {
+            KeyCode.LEFT, KeyCode.A, KeyCode.RIGHT, KeyCode.D, KeyCode.UP, KeyCode.W,
+            KeyCode.DOWN, KeyCode.S, KeyCode.E, KeyCode.R, KeyCode.SPACE
+    };
+
+    private record Event(long tick, KeyCode key) {}
+
+    @Getter
+    private final long seed;
+    @Getter
+    private final int mapId;
+    private final List<Event> events = new ArrayList<>();
+    private int cursor = 0;
+
+    /**
+     * @param seed  the session seed the log belongs to
+     * @param mapId id of the played map
+     */
+    public InputLog(long seed, int mapId) {
+        this.seed = seed;
+        this.mapId = mapId;
+    }
+
+    /**
+     * Appends a key handled during the given tick. Ticks must not decrease.
+     *
+     * @param tick the tick in which the key was handled
+     * @param key  the key
+     */
+    public void record(long tick, KeyCode key) {
+        if (codeOf(key) < 0) return;
+        events.add(new Event(tick, key));
+    }
+
+    /**
+     * Hands every not yet replayed event up to and including {@code tick} to the consumer, in recording order.
+     *
+     * @param tick     the tick being simulated
+     * @param consumer receives the keys
+     */
+    public void replayUpTo(long tick, Consumer<KeyCode> consumer) {
+        while (cursor < events.size() && events.get(cursor).tick() <= tick) {
+            consumer.accept(events.get(cursor++).key());
+        }
+    }
+
+    /**
+     * @return {@code true} once every recorded event was replayed
+     */
+    public boolean isFinished() {
+        return cursor >= events.size();
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    /**
+     * Writes the log to a file, creating parent directories as needed.
+     *
+     * @param file target file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(seed);
+            out.writeInt(mapId);
+            out.writeInt(events.size());
+
+            long previous = 0;
+            for (Event event : events) {
+                writeVarLong(out, event.tick() - previous);
+                out.writeByte(codeOf(event.key()));
+                previous = event.tick();
+            }
+        }
+    }
+
+    /**
+     * Reads a log written by {@link #save(Path)}.
+     *
+     * @param file the replay file
+     * @return the loaded log, positioned at its first event
+     * @throws IOException if the file cannot be read or is not a replay
+     */
+    public static InputLog load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a replay file: " + file);
+            int version = in.readUnsignedByte();
+            if (version != VERSION) throw new IOException("Unsupported replay version " + version + ": " + file);
+
+            InputLog log = new InputLog(in.readLong(), in.readInt());
+            int count = in.readInt();
+            long tick = 0;
+            for (int i = 0; i < count; i++) {
+                tick += readVarLong(in);
+                int code = in.readUnsignedByte();
+                if (code >= KEYS.length) throw new IOException("Unknown key code " + code + ": " + file);
+                log.events.add(new Event(tick, KEYS[code]));
+            }
+            return log;
+        }
+    }
+
+    private static int codeOf(KeyCode key) {
+        for (int i = 0; i < KEYS.length; i++) {
+            if (KEYS[i] == key) return i;
+        }
+        return -1;
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,125 @@
+package com.gnome.gnome.game.engine;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel that hands out items when the simulation reaches their due tick.
+ * <p>
+ * Items are bucketed into {@code slotCount} slots by {@code dueTick % slotCount}; advancing one
+ * tick only inspects a single slot, so the cost of a tick is proportional to the number of items
+ * that are due (plus the few that wrap around the wheel) rather than to the number of items.
+ * Items due further than one rotation ahead stay in their slot until their round comes.
+ * </p>
+ * <p>
+ * Every item has at most one live schedule. Rescheduling keeps the earlier due tick and
+ * cancelling is lazy: stale slot entries are skipped when their slot is visited.
+ * Not thread safe, owned by the simulation thread.
+ * </p>
+ *
+ * @param <T> the scheduled item type, compared by identity
+ */
+public class TimingWheel<T> {
+    private record Entry<T>(T item, long dueTick) {}
+
+    private final List<List<Entry<T>>> slots;
+    private final int mask;
+    private final Map<T, Long> scheduled = new IdentityHashMap<>();
+    private final List<T> due = new ArrayList<>();
+    private long processedTick = -1;
+
+    /**
+     * @param slotCount number of slots, rounded up to a power of two
+     */
+    public TimingWheel(int slotCount) {
+        int size = Integer.highestOneBit(Math.max(1, slotCount - 1)) << 1;
+        this.mask = size - 1;
+        this.slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedules an item. If it is already scheduled earlier, the earlier tick wins.
+     * Ticks that were already processed are moved to the next unprocessed tick.
+     *
+     * @param item    the item to hand out
+     * @param dueTick the tick at which the item is due
+     */
+    public void schedule(T item, long dueTick) {
+        long tick = Math.max(dueTick, processedTick + 1);
+        Long current = scheduled.get(item);
+        if (current != null && current <= tick) return;
+
+        scheduled.put(item, tick);
+        slots.get((int) (tick & mask)).add(new Entry<>(item, tick));
+    }
+
+    /**
+     * Removes an item from the wheel.
+     *
+     * @param item the item to cancel
+     */
+    public void cancel(T item) {
+        scheduled.remove(item);
+    }
+
+    /**
+     * @return whether the item currently has a pending schedule
+     */
+    public boolean isScheduled(T item) {
+        return scheduled.containsKey(item);
+    }
+
+    /**
+     * Processes every tick up to and including {@code tick} and hands each due item to the visitor.
+     * The visitor may schedule or cancel items; anything scheduled now becomes due next tick at the earliest.
+     *
+     * @param tick    the tick the simulation reached
+     * @param visitor called once per due item
+     */
+    public void advance(long tick, Consumer<T> visitor) {
+        while (processedTick < tick) {
+            long current = processedTick + 1;
+            List<Entry<T>> slot = slots.get((int) (current & mask));
+
+            due.clear();
+            for (int i = slot.size() - 1; i >= 0; i--) {
+                Entry<T> entry = slot.get(i);
+                Long live = scheduled.get(entry.item());
+                boolean stale = live == null || live != entry.dueTick();
+                if (!stale && entry.dueTick() > current) continue; // a later round
+
+                removeAt(slot, i);
+                if (!stale) {
+                    scheduled.remove(entry.item());
+                    due.add(entry.item());
+                }
+            }
+
+            processedTick = current;
+            for (int i = due.size() - 1; i >= 0; i--) {
+                visitor.accept(due.get(i));
+            }
+        }
+    }
+
+    /**
+     * Drops every scheduled item.
+     */
+    public void clear() {
+        slots.forEach(List::clear);
+        scheduled.clear();
+    }
+
+    // swap-remove, slot order does not matter
+    private static <E> void removeAt(List<E> list, int index) {
+        int last = list.size() - 1;
+        if (index != last) list.set(index, list.get(last));
+        list.remove(last);
+    }
+}
@@ -0,0 +1,111 @@
+package com.gnome.gnome.game.map;
+
+import com.gnome.gnome.game.component.Coin;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Coins lying on the map, indexed by tile ({@code row * cols + col}).
+ * <p>
+ * A tile holds at most one {@link Coin}; a coin dropped on a tile that already has one is merged into it.
+ * Pickup and per-frame lookups are constant time per tile, independent of how many coins were dropped.
+ * Not thread safe, owned by the simulation thread.
+ * </p>
+ */
+public class CoinGrid {
+    @Getter
+    private final int rows;
+    @Getter
+    private final int cols;
+
+    private final Coin[] cells;
+    /** Number of tiles holding a coin */
+    @Getter
+    private int size;
+
+    public CoinGrid(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = new Coin[rows * cols];
+    }
+
+    /**
+     * Drops a coin on a tile, adding its value to a coin already lying there.
+     *
+     * @param x     column
+     * @param y     row
+     * @param value value of the dropped coin
+     */
+    public void add(int x, int y, double value) {
+        if (!inBounds(x, y)) return;
+        int index = y * cols + x;
+        Coin existing = cells[index];
+        if (existing == null) size++;
+        cells[index] = new Coin(x, y, existing == null ? value : existing.value() + value);
+    }
+
+    /**
+     * Removes and returns the coin on a tile.
+     *
+     * @param x column
+     * @param y row
+     * @return the coin, or {@code null} if the tile holds none
+     */
+    public Coin take(int x, int y) {
+        if (!inBounds(x, y)) return null;
+        int index = y * cols + x;
+        Coin coin = cells[index];
+        if (coin != null) {
+            cells[index] = null;
+            size--;
+        }
+        return coin;
+    }
+
+    /**
+     * @return the coin on a tile, or {@code null}
+     */
+    public Coin get(int x, int y) {
+        return inBounds(x, y) ? cells[y * cols + x] : null;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Collects the coins inside a rectangle of tiles, e.g. the camera viewport.
+     *
+     * @param startCol first column
+     * @param startRow first row
+     * @param width    number of columns
+     * @param height   number of rows
+     * @return the coins in row-major order
+     */
+    public List<Coin> coinsIn(int startCol, int startRow, int width, int height) {
+        List<Coin> coins = new ArrayList<>();
+        if (size == 0) return coins;
+
+        int endRow = Math.min(rows, startRow + height);
+        int endCol = Math.min(cols, startCol + width);
+        for (int y = Math.max(0, startRow); y < endRow; y++) {
+            for (int x = Math.max(0, startCol); x < endCol; x++) {
+                Coin coin = cells[y * cols + x];
+                if (coin != null) coins.add(coin);
+            }
+        }
+        return coins;
+    }
+
+    public void clear() {
+        Arrays.fill(cells, null);
+        size = 0;
+    }
+
+    private boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < cols && y < rows;
+    }
+}
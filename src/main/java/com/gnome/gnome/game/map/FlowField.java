@@ -0,0 +1,137 @@
+package com.gnome.gnome.game.map;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Player-centred distance map (a Dijkstra map on a uniform-cost grid) shared by all chasing monsters.
+ * <p>
+ * A breadth-first search from the target tile fills {@code distance[row * cols + col]} with the
+ * number of steps needed to reach the target over walkable tiles. The field is only rebuilt
+ * when the target moves, and every monster then picks its next step in
+ * constant time by looking at its four neighbours, instead of running one search per monster.
+ * </p>
+ * <p>
+ * Walkability is read from the map's {@link NavMask}, shared with monster and player movement.
+ * Not thread safe, owned by the simulation thread.
+ * </p>
+ */
+public class FlowField {
+    /** Distance of tiles that cannot reach the target */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    // Movement directions (up, down, left, right), same order as the old A* search
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {-1, 1, 0, 0};
+
+    private final NavMask navMask;
+
+    @Getter
+    private final int rows;
+    @Getter
+    private final int cols;
+
+    private final int[] distance;
+    private final int[] queue;
+
+    @Getter
+    private int targetX = -1;
+    @Getter
+    private int targetY = -1;
+    private boolean built = false;
+
+    /**
+     * @param navMask walkability of the map to search
+     */
+    public FlowField(NavMask navMask) {
+        this.navMask = navMask;
+        this.rows = navMask.getRows();
+        this.cols = navMask.getCols();
+        this.distance = new int[rows * cols];
+        this.queue = new int[rows * cols];
+        Arrays.fill(distance, UNREACHABLE);
+    }
+
+    /**
+     * Rebuilds the field around the given target if it moved since the last build.
+     *
+     * @param x target column
+     * @param y target row
+     * @return {@code true} if the field was rebuilt
+     */
+    public boolean update(int x, int y) {
+        if (built && x == targetX && y == targetY) return false;
+        targetX = x;
+        targetY = y;
+        built = true;
+        rebuild();
+        return true;
+    }
+
+    /**
+     * @return the number of steps from the tile to the target, or {@link #UNREACHABLE}
+     */
+    public int distanceAt(int x, int y) {
+        if (!inBounds(x, y)) return UNREACHABLE;
+        return distance[y * cols + x];
+    }
+
+    /**
+     * Picks the neighbouring tile that gets closest to the target.
+     *
+     * @param x current column
+     * @param y current row
+     * @return the tile index ({@code row * cols + col}) of the next step,
+     *         or {@code -1} if the tile is unreachable or already on the target
+     */
+    public int nextStep(int x, int y) {
+        int best = -1;
+        int bestDistance = distanceAt(x, y);
+        if (bestDistance == UNREACHABLE) bestDistance = UNREACHABLE - 1; // allow stepping out of a blocked tile
+
+        for (int dir = 0; dir < DX.length; dir++) {
+            int nx = x + DX[dir];
+            int ny = y + DY[dir];
+            int d = distanceAt(nx, ny);
+            if (d < bestDistance) {
+                bestDistance = d;
+                best = ny * cols + nx;
+            }
+        }
+        return best;
+    }
+
+    private void rebuild() {
+        Arrays.fill(distance, UNREACHABLE);
+        if (!inBounds(targetX, targetY)) return;
+
+        int head = 0, tail = 0;
+        int start = targetY * cols + targetX;
+        distance[start] = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int current = queue[head++];
+            int cx = current % cols;
+            int cy = current / cols;
+            int next = distance[current] + 1;
+
+            for (int dir = 0; dir < DX.length; dir++) {
+                int nx = cx + DX[dir];
+                int ny = cy + DY[dir];
+                if (!inBounds(nx, ny)) continue;
+
+                int index = ny * cols + nx;
+                if (distance[index] != UNREACHABLE || !navMask.isWalkable(index)) continue;
+
+                distance[index] = next;
+                queue[tail++] = index;
+            }
+        }
+    }
+
+    private boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < cols && y < rows;
+    }
+}
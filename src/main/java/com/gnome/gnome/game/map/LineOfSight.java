@@ -0,0 +1,101 @@
+package com.gnome.gnome.game.map;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Line-of-sight queries over a map's {@link NavMask}.
+ * <p>
+ * {@link #isClear(NavMask, int, int, int, int)} walks the line between two tiles with the
+ * integer Bresenham algorithm and fails on the first opaque tile strictly between them.
+ * </p>
+ * <p>
+ * An instance additionally memoizes visibility from one origin tile (the player): each tile
+ * is resolved at most once and later queries are an array lookup. The cache is dropped
+ * whenever the origin moves. Entries are generation-stamped, so dropping the cache is O(1).
+ * Not thread safe, owned by the simulation thread.
+ * </p>
+ */
+public class LineOfSight {
+    private final NavMask navMask;
+    private final int[] stamp;
+    private final BitSet visible;
+    private int generation = 1;
+    private int originX = Integer.MIN_VALUE;
+    private int originY = Integer.MIN_VALUE;
+
+    /**
+     * @param navMask transparency of the map
+     */
+    public LineOfSight(NavMask navMask) {
+        this.navMask = navMask;
+        this.stamp = new int[navMask.getRows() * navMask.getCols()];
+        this.visible = new BitSet(stamp.length);
+    }
+
+    /**
+     * Checks whether the given tile can be seen from the origin, using the cache when possible.
+     *
+     * @param fromX origin column (usually the player)
+     * @param fromY origin row
+     * @param x     target column
+     * @param y     target row
+     * @return {@code true} if no opaque tile lies between origin and target
+     */
+    public boolean isVisible(int fromX, int fromY, int x, int y) {
+        if (!navMask.inBounds(x, y)) return false;
+        if (fromX != originX || fromY != originY) {
+            originX = fromX;
+            originY = fromY;
+            invalidate();
+        }
+
+        int index = navMask.index(x, y);
+        if (stamp[index] != generation) {
+            stamp[index] = generation;
+            visible.set(index, isClear(navMask, fromX, fromY, x, y));
+        }
+        return visible.get(index);
+    }
+
+    /**
+     * Drops every cached result.
+     */
+    private void invalidate() {
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            generation = 0;
+        }
+        generation++;
+    }
+
+    /**
+     * Walks the Bresenham line between two tiles. The end points themselves are not checked.
+     *
+     * @return {@code true} if every tile strictly between the end points is in bounds and transparent
+     */
+    public static boolean isClear(NavMask navMask, int x1, int y1, int x2, int y2) {
+        if (x1 == x2 && y1 == y2) return true;
+
+        int dx = Math.abs(x2 - x1);
+        int dy = -Math.abs(y2 - y1);
+        int sx = x1 < x2 ? 1 : -1;
+        int sy = y1 < y2 ? 1 : -1;
+        int err = dx + dy;
+        int x = x1, y = y1;
+
+        while (true) {
+            int e2 = 2 * err;
+            if (e2 >= dy) {
+                err += dy;
+                x += sx;
+            }
+            if (e2 <= dx) {
+                err += dx;
+                y += sy;
+            }
+            if (x == x2 && y == y2) return true;
+            if (!navMask.isTransparent(x, y)) return false;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.gnome.gnome.game.map;
+
+import com.gnome.gnome.editor.utils.TypeOfObjects;
+import lombok.Getter;
+
+import java.util.BitSet;
+
+/**
+ * Precomputed per-tile navigation flags of a map.
+ * <p>
+ * Resolving a tile through {@link TypeOfObjects#fromValue(int)} and its {@code isWalkable} /
+ * {@code isTransparent} switches is done once per tile when the mask is built, and the results
+ * are stored in three bit sets indexed by {@code row * cols + col}:
+ * </p>
+ * <ul>
+ *     <li><b>walkable</b> – players and monsters may stand on the tile</li>
+ *     <li><b>transparent</b> – the tile does not block line of sight</li>
+ *     <li><b>hazard</b> – standing on the tile hurts (rivers)</li>
+ * </ul>
+ * <p>
+ * Movement, pathfinding and line-of-sight code query the mask instead of the map arrays, so
+ * they all share one definition of what blocks. The map does not change during a game, so the
+ * mask is built once per map.
+ * </p>
+ */
+public class NavMask {
+    @Getter
+    private final int rows;
+    @Getter
+    private final int cols;
+
+    private final BitSet walkable;
+    private final BitSet transparent;
+    private final BitSet hazard;
+
+    /**
+     * Builds the mask from the live map. Negative {@code fieldMap} values fall back to {@code baseMap}.
+     *
+     * @param fieldMap the live map, indexed {@code [row][col]}
+     * @param baseMap  the original map
+     */
+    public NavMask(int[][] fieldMap, int[][] baseMap) {
+        this.rows = fieldMap.length;
+        this.cols = rows == 0 ? 0 : fieldMap[0].length;
+        this.walkable = new BitSet(rows * cols);
+        this.transparent = new BitSet(rows * cols);
+        this.hazard = new BitSet(rows * cols);
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int tile = fieldMap[row][col];
+                setTile(col, row, tile < 0 ? baseMap[row][col] : tile);
+            }
+        }
+    }
+
+    /**
+     * Computes the flags of a single tile.
+     *
+     * @param x     column
+     * @param y     row
+     * @param value the tile value
+     */
+    private void setTile(int x, int y, int value) {
+        if (!inBounds(x, y)) return;
+        int index = index(x, y);
+        TypeOfObjects type = TypeOfObjects.fromValue(value);
+
+        walkable.set(index, type != null && type.isWalkable());
+        transparent.set(index, type != null && type.isTransparent());
+        hazard.set(index, type == TypeOfObjects.RIVER);
+    }
+
+    /**
+     * @return {@code true} if the tile can be walked on; out-of-bounds tiles are never walkable
+     */
+    public boolean isWalkable(int x, int y) {
+        return inBounds(x, y) && walkable.get(index(x, y));
+    }
+
+    /**
+     * @param index tile index ({@code row * cols + col}), must be in bounds
+     * @return {@code true} if the tile can be walked on
+     */
+    public boolean isWalkable(int index) {
+        return walkable.get(index);
+    }
+
+    /**
+     * @return {@code true} if the tile lets line of sight through; out-of-bounds tiles are opaque
+     */
+    public boolean isTransparent(int x, int y) {
+        return inBounds(x, y) && transparent.get(index(x, y));
+    }
+
+    /**
+     * @return {@code true} if standing on the tile deals damage
+     */
+    public boolean isHazard(int x, int y) {
+        return inBounds(x, y) && hazard.get(index(x, y));
+    }
+
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < cols && y < rows;
+    }
+
+    public int index(int x, int y) {
+        return y * cols + x;
+    }
+}
@@ -0,0 +1,134 @@
+package com.gnome.gnome.game.map;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tile occupancy index for entities that block movement (monsters, chests).
+ * <p>
+ * Each tile index ({@code row * cols + col}) maps to a small integer handle in a flat
+ * {@code int[]}, so {@link #isOccupied(int, int)} and {@link #occupantAt(int, int)} are
+ * constant time instead of scanning every entity. Handles are recycled when entities leave the map.
+ * </p>
+ * <p>
+ * A tile holds at most one occupant; callers must check {@link #isOccupied(int, int)}
+ * before committing a move. Not thread safe, owned by the simulation thread.
+ * </p>
+ */
+public class OccupancyGrid {
+    /** Handle stored in free cells */
+    private static final int FREE = 0;
+
+    @Getter
+    private final int rows;
+    @Getter
+    private final int cols;
+
+    private final int[] cells;
+    private final List<Object> occupants = new ArrayList<>();
+    private final Map<Object, Integer> handles = new IdentityHashMap<>();
+    private final List<Integer> freeHandles = new ArrayList<>();
+
+    public OccupancyGrid(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = new int[rows * cols];
+        occupants.add(null); // handle 0 is reserved for FREE
+    }
+
+    /**
+     * Places an entity on the given tile.
+     *
+     * @param occupant the entity, compared by identity
+     * @param x        column
+     * @param y        row
+     */
+    public void add(Object occupant, int x, int y) {
+        if (!inBounds(x, y)) return;
+        int handle = handles.computeIfAbsent(occupant, this::allocateHandle);
+        cells[index(x, y)] = handle;
+    }
+
+    /**
+     * Moves an entity between tiles. The source tile is only cleared if it still belongs to the entity.
+     *
+     * @param occupant the entity that moved
+     * @param fromX    previous column
+     * @param fromY    previous row
+     * @param toX      new column
+     * @param toY      new row
+     */
+    public void move(Object occupant, int fromX, int fromY, int toX, int toY) {
+        Integer handle = handles.get(occupant);
+        if (handle == null) {
+            add(occupant, toX, toY);
+            return;
+        }
+        if (inBounds(fromX, fromY) && cells[index(fromX, fromY)] == handle) cells[index(fromX, fromY)] = FREE;
+        if (inBounds(toX, toY)) cells[index(toX, toY)] = handle;
+    }
+
+    /**
+     * Removes an entity from the grid and recycles its handle.
+     *
+     * @param occupant the entity leaving the map
+     * @param x        column it was standing on
+     * @param y        row it was standing on
+     */
+    public void remove(Object occupant, int x, int y) {
+        Integer handle = handles.remove(occupant);
+        if (handle == null) return;
+        if (inBounds(x, y) && cells[index(x, y)] == handle) cells[index(x, y)] = FREE;
+        occupants.set(handle, null);
+        freeHandles.add(handle);
+    }
+
+    /**
+     * @return {@code true} if an entity stands on the tile; out-of-bounds tiles are never occupied
+     */
+    public boolean isOccupied(int x, int y) {
+        return inBounds(x, y) && cells[index(x, y)] != FREE;
+    }
+
+    /**
+     * @return the entity standing on the tile, or {@code null} if the tile is free or out of bounds
+     */
+    public Object occupantAt(int x, int y) {
+        if (!inBounds(x, y)) return null;
+        return occupants.get(cells[index(x, y)]);
+    }
+
+    /**
+     * Removes every entity from the grid.
+     */
+    public void clear() {
+        Arrays.fill(cells, FREE);
+        handles.clear();
+        freeHandles.clear();
+        occupants.clear();
+        occupants.add(null);
+    }
+
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < cols && y < rows;
+    }
+
+    public int index(int x, int y) {
+        return y * cols + x;
+    }
+
+    private int allocateHandle(Object occupant) {
+        if (!freeHandles.isEmpty()) {
+            int handle = freeHandles.remove(freeHandles.size() - 1);
+            occupants.set(handle, occupant);
+            return handle;
+        }
+        occupants.add(occupant);
+        return occupants.size() - 1;
+    }
+}
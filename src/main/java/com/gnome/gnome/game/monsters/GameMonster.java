@@ -1,27 +1,20 @@
 package com.gnome.gnome.game.monsters;
 
 
-import com.gnome.gnome.game.camera.Camera;
-import com.gnome.gnome.editor.utils.TypeOfObjects;
 import com.gnome.gnome.game.GameController;
+import com.gnome.gnome.game.assets.AssetManager;
+import com.gnome.gnome.game.assets.FrameSequence;
+import com.gnome.gnome.game.engine.FrameSnapshot;
+import com.gnome.gnome.game.map.NavMask;
 import com.gnome.gnome.game.monsters.movements.FollowingMovement;
 import com.gnome.gnome.game.monsters.movements.MovementStrategy;
 import com.gnome.gnome.game.player.Player;
-import javafx.animation.KeyFrame;
-import javafx.animation.PauseTransition;
-import javafx.animation.Timeline;
-import javafx.animation.TranslateTransition;
 import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.scene.layout.Pane;
-import javafx.util.Duration;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
-import java.io.InputStream;
-import java.util.Objects;
+import java.util.Random;
 
-import static com.gnome.gnome.editor.utils.EditorConstants.TILE_SIZE;
 import static java.lang.Math.max;
 
 /**
@@ -83,21 +76,22 @@ public abstract class GameMonster {
 
     protected boolean isHitEffectPlaying = false; // // A flag indicating whether the monster's hit effect animation is currently playing. Used to prevent the monster from moving while the animation is active
 
+    protected long hitEffectEndTime = 0; // Simulation time (in nanoseconds) at which the current hit effect ends
+    protected Runnable onHitEffectFinished; // Callback fired once the current hit effect ends
+
     protected boolean isMeleeAttacking = false; // A flag indicating whether the monster is currently performing a melee attack animation. Used to prevent the monster from moving or attacking again while the animation is active
-    protected long lastMeleeAttackTime = 0; // The timestamp (in nanoseconds) of the monster's last melee attack. Used to enforce a cooldown between attacks
+    protected long meleeAttackEndTime = 0; // Simulation time (in nanoseconds) at which the current attack animation lands
     protected static final long MELEE_ATTACK_COOLDOWN = 3_000_000_000L; // The cooldown period (in nanoseconds) between melee attacks. 3 billion nanoseconds = 3 seconds. The monster cannot attack again until this time has passed
+    protected long lastMeleeAttackTime = -MELEE_ATTACK_COOLDOWN; // The simulation time (in nanoseconds) of the monster's last melee attack. Used to enforce a cooldown between attacks
+    protected static final long EFFECT_DURATION = 1_000_000_000L; // Length of the hit and attack animations (1 second)
 
     protected boolean debug_mode = false; // A flag for enabling debug mode. If true, the monster might print additional debug information (though not used in this code)
 
-    protected ImageView representation;
-
-    protected Timeline activeAttackAnimation; // для зупинки атаки вручну
-
-    private boolean firstUpdateDone = false;
-    private int countUpdates = 0;
-
-    private long lastMoveTime = 0;
     private static final long MOVE_COOLDOWN = 500_000_000L; // 0.5 seconds
+    private long lastMoveTime = -MOVE_COOLDOWN;
+
+    private int priority; // Lower values win when several monsters want the same tile in one tick
+    private Random random = new Random(); // Own generator, so movement can be planned in parallel
 
     private Image defaultImage;
 
@@ -136,83 +130,8 @@ public abstract class GameMonster {
         initRepresentation();
     }
 
-    /**
-     * Updates the visual position of the monster based on camera offset.
-     * This method must be called after moving or scrolling.
-     *
-     * @param cameraStartCol the first visible column (leftmost)
-     * @param cameraStartRow the first visible row (topmost)
-     * @param tileWidth width of one tile
-     * @param tileHeight height of one tile
-     */
-    public void updatePositionWithCamera(int cameraStartCol, int cameraStartRow,
-                                         double tileWidth, double tileHeight, boolean isTransit) {
-        if (representation == null) {
-            System.out.println("representation is null");
-            return;
-        }
-
-        double sizeX = tileWidth * 0.6;
-        double sizeY = tileHeight * 0.6;
-
-        double offsetX = (tileWidth - sizeX) / 2;
-        double offsetY = (tileHeight - sizeY) / 2;
-
-        double px = (x - cameraStartCol) * tileWidth + offsetX;
-        double py = (y - cameraStartRow) * tileHeight + offsetY;
-
-        boolean shouldAnimate = isTransit && firstUpdateDone && countUpdates == 5
-                && Camera.getInstance().getCameraCenterX() == x
-                && Camera.getInstance().getCameraCenterY() == y;
-
-        if (shouldAnimate) {
-            TranslateTransition transition = new TranslateTransition(Duration.millis(50), representation);
-            transition.setToX(px);
-            transition.setToY(py);
-            transition.play();
-        } else {
-            representation.setTranslateX(px);
-            representation.setTranslateY(py);
-        }
-
-        representation.setFitWidth(sizeX);
-        representation.setFitHeight(sizeY);
-
-        firstUpdateDone = true;
-        if (countUpdates != 5)
-            countUpdates++;
-
-    }
-
-
-    /**
-     * Moves the monster according to its defined movement strategy.
-     * This method delegates the movement logic to the MovementStrategy object assigned to the monster
-     */
-    public void move() {
-        if (movementStrategy != null) {
-            movementStrategy.move(this);
-            if (representation != null) {
-                representation.getProperties().put("gridX", x);
-                representation.getProperties().put("gridY", y);
-            }
-        } else {
-            System.out.println("Monster " + nameEng + " has NO movement strategy!");
-        }
-    }
-
     public void initRepresentation() {
-        InputStream imageStream = getClass().getResourceAsStream(imagePath);
-        if (imageStream == null) {
-            throw new RuntimeException("Missing monster image: " + imagePath);
-        }
-        defaultImage = new Image(imageStream);
-        representation = new ImageView(defaultImage);
-        representation.setFitWidth(TILE_SIZE * 0.6);
-        representation.setFitHeight(TILE_SIZE * 0.6);
-
-        representation.getProperties().put("gridX", x);
-        representation.getProperties().put("gridY", y);
+        defaultImage = AssetManager.getInstance().require(imagePath);
     }
 
 
@@ -226,10 +145,6 @@ public abstract class GameMonster {
     public void setPosition(int newX, int newY) {
         this.x = newX;
         this.y = newY;
-        if (representation != null) {
-            representation.getProperties().put("gridX", newX);
-            representation.getProperties().put("gridY", newY);
-        }
     }
 
     /**
@@ -250,60 +165,35 @@ public abstract class GameMonster {
     }
 
     /**
-     * Displays a hit effect animation when the monster takes damage.
-     * The effect is shown as a GIF (red_monster.gif) at the monster's position on the screen.
-     * The animation lasts for 1 second, during which the monster cannot move.
+     * Starts the hit effect when the monster takes damage.
+     * The effect lasts for 1 second of simulation time, during which the monster cannot move.
+     * The hit frames are picked by {@link #getEffectFrames} and played by the
+     * {@link com.gnome.gnome.game.camera.EntityRenderer} once the snapshot carries the flag.
      *
-     * @param onFinish A callback function (Runnable) that is executed when the hit effect animation finishes.
+     * @param now The current simulation time (in nanoseconds).
+     * @param onFinish A callback function (Runnable) that is executed on the simulation thread when the hit effect finishes.
      */
-    public void showHitEffect(Runnable onFinish) {
-        if (representation == null) {
-            if (onFinish != null) onFinish.run();
-            return;
-        }
-
+    public void showHitEffect(long now, Runnable onFinish) {
         isHitEffectPlaying = true;
-
-        InputStream gifStream = getClass().getResourceAsStream(hitGifPath);
-        if (gifStream == null) {
-            System.err.println("Missing hit GIF: " + hitGifPath);
-            isHitEffectPlaying = false;
-            if (onFinish != null) onFinish.run();
-            return;
-        }
-
-        Image gifImage = new Image(gifStream);
-
-        representation.setImage(gifImage);
-
-        PauseTransition delay = new PauseTransition(Duration.seconds(1));
-        delay.setOnFinished(evt -> {
-            representation.setImage(defaultImage);
-            isHitEffectPlaying = false;
-            if (onFinish != null) onFinish.run();
-        });
-        delay.play();
+        hitEffectEndTime = now + EFFECT_DURATION;
+        onHitEffectFinished = onFinish;
+        GameController.getGameController().wakeMonster(this);
     }
 
-
-
-
     /**
-     * Performs a melee attack on the player if they are within the monster's attack range.
-     * The attack includes a visual effect (among-us.gif) and deals damage to the player after the animation finishes.
+     * Starts a melee attack on the player if they are within the monster's attack range.
+     * The damage lands when the 1 second animation ends, see {@link #updateEffects(Player, long)}.
      * The monster can only attack again after a cooldown period (MELEE_ATTACK_COOLDOWN).
      *
      * @param player The Player object to attack.
-     * @param gameObjectsPane The JavaFX Pane where the attack effect will be displayed.
-     * @param currentTime The current time (in nanoseconds), used to enforce the attack cooldown.
+     * @param now The current simulation time (in nanoseconds), used to enforce the attack cooldown.
      */
-    public void meleeAttack(Player player, Pane gameObjectsPane, long currentTime) {
+    public void meleeAttack(Player player, long now) {
         if (health <= 0) return;
-        if (currentTime - lastMeleeAttackTime < MELEE_ATTACK_COOLDOWN) return;
+        if (now - lastMeleeAttackTime < MELEE_ATTACK_COOLDOWN) return;
         if (isMeleeAttacking) return;
-        if (gameObjectsPane == null) return;
 
-        if (GameController.getGameController().isLineOfSightClear(x, y, player.getX(), player.getY())) {
+        if (!GameController.getGameController().isVisibleFromPlayer(x, y)) {
             return;
         }
 
@@ -311,72 +201,120 @@ public abstract class GameMonster {
         int dy = Math.abs(player.getY() - y);
         if (dx <= attackRange && dy <= attackRange) {
             isMeleeAttacking = true;
+            meleeAttackEndTime = now + EFFECT_DURATION;
 
             if (!(movementStrategy instanceof FollowingMovement))
                 movementStrategy = new FollowingMovement();
+        }
+    }
+
+    /**
+     * Advances the timed hit and attack effects. Called every tick for every live monster.
+     *
+     * @param player The Player object targeted by a pending attack.
+     * @param now The current simulation time (in nanoseconds).
+     */
+    public void updateEffects(Player player, long now) {
+        if (isHitEffectPlaying && now >= hitEffectEndTime) {
+            isHitEffectPlaying = false;
+            Runnable callback = onHitEffectFinished;
+            onHitEffectFinished = null;
+            if (callback != null) callback.run();
+        }
+
+        if (isMeleeAttacking && now >= meleeAttackEndTime) {
+            isMeleeAttacking = false;
+
+            int newDx = Math.abs(player.getX() - x);
+            int newDy = Math.abs(player.getY() - y);
 
-            Image attackImage = new Image(Objects.requireNonNull(getClass().getResourceAsStream(attackImagePath)));
-            representation.setImage(attackImage);
-
-            activeAttackAnimation = new Timeline(
-                    new KeyFrame(Duration.seconds(1), e -> {
-                        representation.setImage(defaultImage);
-                        isMeleeAttacking = false;
-                        activeAttackAnimation = null;
-
-                        int newDx = Math.abs(player.getX() - x);
-                        int newDy = Math.abs(player.getY() - y);
-
-                        if (newDx <= attackRange && newDy <= attackRange && health > 0) {
-                            System.out.println("Damage of " + nameEng + "is " + attack);
-                            System.out.println("Health of " + nameEng + "is " + health);
-                            player.takeDamage(attack);
-                            lastMeleeAttackTime = System.nanoTime(); // встановлюємо тільки якщо атака вдала
-                        }
-
-                        System.out.println("Finished attack animation for " + nameEng);
-                    })
-            );
-            activeAttackAnimation.setCycleCount(1);
-            activeAttackAnimation.play();
+            if (newDx <= attackRange && newDy <= attackRange && health > 0) {
+                System.out.println("Damage of " + nameEng + "is " + attack);
+                System.out.println("Health of " + nameEng + "is " + health);
+                player.takeDamage(attack);
+                lastMeleeAttackTime = now; // встановлюємо тільки якщо атака вдала
+            }
         }
     }
 
-    public void updateLogic(Player player, double delta, int [][] fieldMap, int [][] baseMap) {
-        if (isHitEffectPlaying || isMeleeAttacking) return;
+    /**
+     * Decides whether the monster takes a step this tick and, if so, consumes its move cooldown.
+     * Busy monsters (hit or attacking) and monsters that already reach the player stay put.
+     *
+     * @param player the player the monster reacts to
+     * @param now The current simulation time (in nanoseconds).
+     * @return {@code true} if a move should be planned for this monster
+     */
+    public boolean wantsToMove(Player player, long now) {
+        if (isHitEffectPlaying || isMeleeAttacking) return false;
 
-        long now = System.nanoTime();
-        if (now - lastMoveTime < MOVE_COOLDOWN) return;
+        if (now - lastMoveTime < MOVE_COOLDOWN) return false;
         lastMoveTime = now;
 
         int dx = Math.abs(player.getX() - x);
         int dy = Math.abs(player.getY() - y);
-        if (dx <= attackRange && dy <= attackRange) return;
-
-        int oldX = x, oldY = y;
-        move();
+        if (dx <= attackRange && dy <= attackRange) return false;
 
-        int newX = getX(), newY = getY();
-        if (newX < 0 || newY < 0 || newY >= fieldMap.length || newX >= fieldMap[0].length) {
-            setPosition(oldX, oldY);
-        } else {
-            int tile = fieldMap[newY][newX];
-            if (tile < 0) tile = baseMap[newY][newX];
+        return movementStrategy != null;
+    }
 
-            TypeOfObjects type = TypeOfObjects.fromValue(tile);
-            boolean chestOnTile = GameController.getGameController().isBlocked(newX, newY, this);
+    /**
+     * Asks the movement strategy for the next tile without moving the monster.
+     * Only reads shared state, so different monsters may be planned in parallel.
+     *
+     * @param navMask walkability of the map
+     * @return the tile index of the intended step, or {@code -1} to stay in place
+     */
+    public int planMove(NavMask navMask) {
+        if (movementStrategy == null) return -1;
+        MovementStrategy.Step step = movementStrategy.nextStep(this, random);
+        if (step == null || (step.x() == x && step.y() == y)) return -1;
+        if (!navMask.isWalkable(step.x(), step.y())) return -1;
+        return navMask.index(step.x(), step.y());
+    }
 
-            if (type == TypeOfObjects.RIVER) takeDamage(max(health * 0.1, 1));
+    /**
+     * Commits a planned step that won conflict resolution.
+     *
+     * @param newX the column to move to
+     * @param newY the row to move to
+     * @param navMask used to apply hazard damage (rivers)
+     */
+    public void applyMove(int newX, int newY, NavMask navMask) {
+        setPosition(newX, newY);
+        if (navMask.isHazard(newX, newY)) takeDamage(max(health * 0.1, 1));
+    }
 
-            if (type.isObstacle() || chestOnTile) {
-                setPosition(oldX, oldY);
-            }
-        }
+    /**
+     * Computes when this monster next has something to do, so the scheduler can leave it alone until then:
+     * the end of a running effect, the next allowed move, or the next allowed attack while the player is in range.
+     * A player stepping into range between visits wakes the monster early, see {@link GameController#wakeMonstersNear}.
+     *
+     * @param player the player the monster reacts to
+     * @param now The current simulation time (in nanoseconds).
+     * @return the simulation time (in nanoseconds) of the next required update, never before {@code now}
+     */
+    public long getNextUpdateTime(Player player, long now) {
+        if (isHitEffectPlaying) return hitEffectEndTime;
+        if (isMeleeAttacking) return meleeAttackEndTime;
 
-        updateVisual(Camera.getInstance());
+        long next = lastMoveTime + MOVE_COOLDOWN;
+        int dx = Math.abs(player.getX() - x);
+        int dy = Math.abs(player.getY() - y);
+        if (dx <= attackRange && dy <= attackRange) next = Math.min(next, lastMeleeAttackTime + MELEE_ATTACK_COOLDOWN);
+        return Math.max(next, now);
     }
 
-    public void updateVisual(Camera camera) {
-        updatePositionWithCamera(camera.getStartCol(), camera.getStartRow(), camera.getTileWidth(), camera.getTileHeight(), true);
+    /**
+     * Picks the effect animation matching a published frame: the hit frames, the attack frames,
+     * or {@code null} when the monster shows its default image.
+     *
+     * @param frame the monster state captured by the simulation
+     * @return the frames to play for this monster, or {@code null}
+     */
+    public FrameSequence getEffectFrames(FrameSnapshot.MonsterFrame frame) {
+        if (frame.hitEffect()) return AssetManager.getInstance().getFrames(hitGifPath);
+        if (frame.attacking()) return AssetManager.getInstance().getFrames(attackImagePath);
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,8 @@ import com.gnome.gnome.editor.utils.TypeOfObjects;
 import com.gnome.gnome.game.monsters.types.*;
 import com.gnome.gnome.models.Monster;
 
+import java.util.List;
+
 public class MonsterFactory {
 
     /**
@@ -18,4 +20,20 @@ public class MonsterFactory {
             default -> throw new IllegalArgumentException("Unknown monster type: " + type);
         };
     }
+
+    /**
+     * Lists the images a monster of the given type draws: its default sprite, hit GIF and attack GIF.
+     *
+     * @param type monster type
+     * @return the classpath resource paths, empty if the type is not a spawnable monster
+     */
+    public static List<String> getAssetPaths(TypeOfObjects type) {
+        return switch (type) {
+            case DEMON -> List.of(type.getImagePathForMonsters(), Demon.HIT_GIF_PATH, Demon.ATTACK_GIF_PATH);
+            case SCORPION -> List.of(type.getImagePathForMonsters(), Scorpion.HIT_GIF_PATH, Scorpion.ATTACK_GIF_PATH);
+            case GOBLIN -> List.of(type.getImagePathForMonsters(), Goblin.HIT_GIF_PATH, Goblin.ATTACK_GIF_PATH);
+            case BUTTERFLY -> List.of(type.getImagePathForMonsters(), Butterfly.HIT_GIF_PATH, Butterfly.ATTACK_GIF_PATH);
+            default -> List.of();
+        };
+    }
 }
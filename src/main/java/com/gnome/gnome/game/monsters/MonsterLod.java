@@ -0,0 +1,81 @@
+package com.gnome.gnome.game.monsters;
+
+import lombok.Getter;
+
+import static com.gnome.gnome.game.camera.Camera.VIEWPORT_SIZE;
+
+/**
+ * AI level-of-detail policy: how often a monster is simulated depending on how far it is from the viewport.
+ * <ul>
+ *     <li>{@link Tier#ACTIVE} – inside the viewport, updated as often as its cooldowns allow</li>
+ *     <li>{@link Tier#NEAR} – within {@code margin} tiles of the viewport, updated at most once per {@code nearInterval}</li>
+ *     <li>{@link Tier#ASLEEP} – further away, not updated until the player comes within its wake radius</li>
+ * </ul>
+ * The viewport is derived from the player position exactly like the camera does it,
+ * so the policy can run on the simulation thread without touching the camera.
+ */
+public class MonsterLod {
+    public enum Tier { ACTIVE, NEAR, ASLEEP }
+
+    /** Number of tiles around the viewport in which monsters keep being simulated */
+    @Getter
+    private final int margin;
+    /** Minimum time (in nanoseconds) between two updates of a monster in the {@link Tier#NEAR} tier */
+    @Getter
+    private final long nearIntervalNanos;
+
+    /**
+     * @param margin            tiles around the viewport that are still simulated at reduced frequency
+     * @param nearIntervalNanos minimum delay between updates of monsters in that margin
+     */
+    public MonsterLod(int margin, long nearIntervalNanos) {
+        this.margin = Math.max(0, margin);
+        this.nearIntervalNanos = Math.max(0, nearIntervalNanos);
+    }
+
+    /**
+     * Classifies a monster position against the viewport the camera would show for the given player position.
+     *
+     * @param x       monster column
+     * @param y       monster row
+     * @param playerX player column
+     * @param playerY player row
+     * @param cols    map width in tiles
+     * @param rows    map height in tiles
+     * @return the simulation tier of the monster
+     */
+    public Tier classify(int x, int y, int playerX, int playerY, int cols, int rows) {
+        int startCol = viewportStart(playerX, cols);
+        int startRow = viewportStart(playerY, rows);
+
+        int outsideX = Math.max(0, Math.max(startCol - x, x - (startCol + VIEWPORT_SIZE - 1)));
+        int outsideY = Math.max(0, Math.max(startRow - y, y - (startRow + VIEWPORT_SIZE - 1)));
+        int distance = Math.max(outsideX, outsideY);
+
+        if (distance == 0) return Tier.ACTIVE;
+        if (distance <= margin) return Tier.NEAR;
+        return Tier.ASLEEP;
+    }
+
+    /**
+     * Delays an update time according to the tier.
+     *
+     * @param tier the monster's tier
+     * @param next the time the monster's own cooldowns ask for
+     * @param now  current simulation time
+     * @return the time at which the monster should actually be updated
+     */
+    public long throttle(Tier tier, long next, long now) {
+        return tier == Tier.NEAR ? Math.max(next, now + nearIntervalNanos) : next;
+    }
+
+    /**
+     * First visible row or column of the viewport centered on the given cell, same clamping as the camera.
+     *
+     * @param center  player row or column
+     * @param mapSize number of rows or columns of the map
+     */
+    public static int viewportStart(int center, int mapSize) {
+        return Math.max(0, Math.min(center - VIEWPORT_SIZE / 2, mapSize - VIEWPORT_SIZE));
+    }
+}
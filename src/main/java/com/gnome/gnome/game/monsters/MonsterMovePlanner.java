@@ -0,0 +1,74 @@
+package com.gnome.gnome.game.monsters;
+
+import com.gnome.gnome.game.map.NavMask;
+import com.gnome.gnome.game.map.OccupancyGrid;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Two-phase monster movement.
+ * <ol>
+ *     <li><b>Plan</b> – every moving monster computes the tile it wants to step on. Planning only reads
+ *     the map and the monster itself, so large batches run in parallel on the common ForkJoin pool.</li>
+ *     <li><b>Resolve</b> – intents are applied one by one in ascending {@link GameMonster#getPriority()}.
+ *     A step succeeds only if its target tile is free at that moment, so when several monsters want the
+ *     same tile the highest priority one wins, independent of thread scheduling.</li>
+ * </ol>
+ * Monsters never move onto a blocked tile and back again; losers simply stay where they are.
+ */
+public class MonsterMovePlanner {
+    private static final Comparator<GameMonster> BY_PRIORITY = Comparator.comparingInt(GameMonster::getPriority);
+
+    private final int parallelThreshold;
+
+    /**
+     * @param parallelThreshold minimum number of moving monsters before planning is parallelized
+     */
+    public MonsterMovePlanner(int parallelThreshold) {
+        this.parallelThreshold = Math.max(1, parallelThreshold);
+    }
+
+    /**
+     * Plans and applies the moves of the given monsters. Runs on the simulation thread.
+     *
+     * @param movers    monsters that want to move this tick
+     * @param navMask   walkability of the map
+     * @param occupancy tile occupancy, updated for every applied move
+     */
+    public void moveAll(List<GameMonster> movers, NavMask navMask, OccupancyGrid occupancy) {
+        if (movers.isEmpty()) return;
+
+        List<GameMonster> ordered = new ArrayList<>(movers);
+        ordered.sort(BY_PRIORITY);
+        int[] targets = plan(ordered, navMask);
+        resolve(ordered, targets, navMask, occupancy);
+    }
+
+    private int[] plan(List<GameMonster> monsters, NavMask navMask) {
+        int[] targets = new int[monsters.size()];
+        IntStream range = IntStream.range(0, monsters.size());
+        if (monsters.size() >= parallelThreshold) range = range.parallel();
+        range.forEach(i -> targets[i] = monsters.get(i).planMove(navMask));
+        return targets;
+    }
+
+    private void resolve(List<GameMonster> monsters, int[] targets, NavMask navMask, OccupancyGrid occupancy) {
+        int cols = navMask.getCols();
+        for (int i = 0; i < monsters.size(); i++) {
+            int target = targets[i];
+            if (target < 0) continue;
+
+            int newX = target % cols;
+            int newY = target / cols;
+            if (occupancy.isOccupied(newX, newY)) continue;
+
+            GameMonster monster = monsters.get(i);
+            int oldX = monster.getX(), oldY = monster.getY();
+            monster.applyMove(newX, newY, navMask);
+            occupancy.move(monster, oldX, oldY, newX, newY);
+        }
+    }
+}
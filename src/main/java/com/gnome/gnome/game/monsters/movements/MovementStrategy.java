@@ -2,11 +2,27 @@ package com.gnome.gnome.game.monsters.movements;
 
 import com.gnome.gnome.game.monsters.GameMonster;
 
+import java.util.Random;
+
 
 public interface MovementStrategy {
     /**
-     * Moves the monster by updating its position.
+     * A tile a monster wants to step on.
+     *
+     * @param x target column
+     * @param y target row
+     */
+    record Step(int x, int y) {}
+
+    /**
+     * Picks the tile the monster wants to move to, without changing its position.
+     * Intents of all monsters are planned in parallel and applied afterwards, so implementations
+     * must only read shared game state and draw randomness from the given generator.
+     *
+     * @param gameMonster the monster to move
+     * @param random      the monster's own random generator
+     * @return the target tile, or {@code null} to stay in place
      */
-    void move(GameMonster gameMonster);
+    Step nextStep(GameMonster gameMonster, Random random);
 
 }
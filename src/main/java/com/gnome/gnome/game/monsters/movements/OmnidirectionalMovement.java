@@ -5,16 +5,15 @@ import com.gnome.gnome.game.monsters.GameMonster;
 import java.util.Random;
 
 public class OmnidirectionalMovement implements MovementStrategy {
-    private static final Random rand = new Random();
 
     @Override
-    public void move(GameMonster gameMonster) {
+    public Step nextStep(GameMonster gameMonster, Random random) {
         int dx = 0, dy = 0;
         while(dx == 0 && dy == 0) {
-            dx = rand.nextInt(3) - 1;
-            dy = rand.nextInt(3) - 1;
+            dx = random.nextInt(3) - 1;
+            dy = random.nextInt(3) - 1;
         }
-        gameMonster.setPosition(gameMonster.getX() + dx, gameMonster.getY() + dy);
+        return new Step(gameMonster.getX() + dx, gameMonster.getY() + dy);
     }
 
 
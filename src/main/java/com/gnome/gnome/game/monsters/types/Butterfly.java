@@ -5,6 +5,9 @@ import com.gnome.gnome.game.monsters.GameMonster;
 import com.gnome.gnome.game.monsters.movements.RandomMovement;
 
 public class Butterfly extends GameMonster {
+    public static final String HIT_GIF_PATH = "/com/gnome/gnome/images/monsters/hitGif/butterfly_damage.gif";
+    public static final String ATTACK_GIF_PATH = "/com/gnome/gnome/images/monsters/attackGif/animated_butterfly.gif";
+
     public Butterfly(int startX, int startY, com.gnome.gnome.models.Monster dbMonster) {
         super(dbMonster.getAttack(),
                 dbMonster.getHealth(),
@@ -17,8 +20,8 @@ public class Butterfly extends GameMonster {
                 TypeOfObjects.BUTTERFLY.getValue(),
                 new RandomMovement(),
                 TypeOfObjects.BUTTERFLY.getImagePathForMonsters(),
-                "/com/gnome/gnome/images/monsters/hitGif/butterfly_damage.gif",
-                "/com/gnome/gnome/images/monsters/attackGif/animated_butterfly.gif",
+                HIT_GIF_PATH,
+                ATTACK_GIF_PATH,
                 dbMonster.getScore_val());
     }
 }
\ No newline at end of file
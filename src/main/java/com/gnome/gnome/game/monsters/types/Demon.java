@@ -5,6 +5,9 @@ import com.gnome.gnome.game.monsters.GameMonster;
 import com.gnome.gnome.game.monsters.movements.OmnidirectionalMovement;
 
 public class Demon extends GameMonster {
+    public static final String HIT_GIF_PATH = "/com/gnome/gnome/images/monsters/hitGif/demon_damaged.gif";
+    public static final String ATTACK_GIF_PATH = "/com/gnome/gnome/images/monsters/attackGif/animated_demon.gif";
+
     public Demon(int startX, int startY, com.gnome.gnome.models.Monster dbMonster) {
         super(dbMonster.getAttack(),
                 dbMonster.getHealth(),
@@ -17,8 +20,8 @@ public class Demon extends GameMonster {
                 TypeOfObjects.DEMON.getValue(),
                 new OmnidirectionalMovement(),
                 TypeOfObjects.DEMON.getImagePathForMonsters(),
-                "/com/gnome/gnome/images/monsters/hitGif/demon_damaged.gif",
-                "/com/gnome/gnome/images/monsters/attackGif/animated_demon.gif",
+                HIT_GIF_PATH,
+                ATTACK_GIF_PATH,
                 dbMonster.getScore_val());
     }
 }
\ No newline at end of file
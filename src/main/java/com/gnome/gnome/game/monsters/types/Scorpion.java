@@ -5,6 +5,9 @@ import com.gnome.gnome.game.monsters.GameMonster;
 import com.gnome.gnome.game.monsters.movements.StraightMovement;
 
 public class Scorpion extends GameMonster {
+    public static final String HIT_GIF_PATH = "/com/gnome/gnome/images/monsters/hitGif/scorpion_damaged.gif";
+    public static final String ATTACK_GIF_PATH = "/com/gnome/gnome/images/monsters/attackGif/animated_scorpion.gif";
+
     public Scorpion(int startX, int startY, com.gnome.gnome.models.Monster dbMonster) {
         super(dbMonster.getAttack(),
                 dbMonster.getHealth(),
@@ -17,8 +20,8 @@ public class Scorpion extends GameMonster {
                 TypeOfObjects.SCORPION.getValue(),
                 new StraightMovement()
                 ,TypeOfObjects.SCORPION.getImagePathForMonsters(),
-                "/com/gnome/gnome/images/monsters/hitGif/scorpion_damaged.gif",
-                "/com/gnome/gnome/images/monsters/attackGif/animated_scorpion.gif",
+                HIT_GIF_PATH,
+                ATTACK_GIF_PATH,
                 dbMonster.getScore_val());
     }
 }
@@ -1,19 +1,13 @@
 package com.gnome.gnome.game.player;
 
 import com.gnome.gnome.game.GameController;
+import com.gnome.gnome.game.assets.AssetManager;
 import com.gnome.gnome.game.monsters.GameMonster;
-import javafx.animation.TranslateTransition;
-import javafx.geometry.Bounds;
 import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.util.Duration;
 import lombok.Getter;
-import lombok.Setter;
 
-import static com.gnome.gnome.editor.utils.EditorConstants.TILE_SIZE;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
@@ -28,21 +22,19 @@ public class Player {
     private int x, y;
     private final int maxHealth;
     private double damage;
-    private double currentHealth;
-    private final ImageView representation;
+    private volatile double currentHealth;
+    private final Image image;
     private double playerCoins = 0;
     private int score = 0;
     private int countOfOpenedChest = 0;
     private int countOfKilledMonsters = 0;
     private static Player instance;
-    @Setter
-    private double dynamicTileSize;
 
-    private long lastMoveTime = 0;
     private static final long MOVE_COOLDOWN_NS = 200_000_000L;
+    private long lastMoveTime = -MOVE_COOLDOWN_NS;
 
-    private long lastAttackTime = 0;
     private static final long ATTACK_COOLDOWN_NS = 300_000_000L;
+    private long lastAttackTime = -ATTACK_COOLDOWN_NS;
 
     /**
      * Creates a new player at the specified position with the given maximum health.
@@ -58,9 +50,7 @@ public class Player {
         this.currentHealth = maxHealth; // Set the player's current health to the maximum health at the start of the game.
         this.damage = damage;
 
-        this.representation = new ImageView(new Image(Objects.requireNonNull(Player.class.getResourceAsStream(imagePath))));
-        this.representation.setFitWidth(TILE_SIZE * 0.6);
-        this.representation.setFitHeight(TILE_SIZE * 0.6);
+        this.image = AssetManager.getInstance().require(imagePath);
     }
 
     public static Player getInstance(int startX, int startY, int maxHealth, double damage, String imagePath) {
@@ -101,10 +91,7 @@ public class Player {
     public void takeDamage(double damage) {
         currentHealth = Math.max(0, currentHealth - damage);
         GameController ctrl = GameController.getGameController();
-        if (ctrl != null) {
-            ctrl.shakeCamera();
-            ctrl.updatePlayerHealthBar();
-        }
+        if (ctrl != null) ctrl.shakeCamera();
     }
 
     public void heal(double amount) {
@@ -127,34 +114,7 @@ public class Player {
         countOfKilledMonsters++;
     }
 
-    public Bounds getBounds() {
-        return representation.getBoundsInParent();
-    }
-
-    public void updatePositionWithCamera(int cameraStartCol, int cameraStartRow, double tileWidth, double tileHeight, Runnable onAnimationFinished) {
-        double sizeX = tileWidth * 0.6;
-        double sizeY = tileHeight * 0.6;
-        double offsetX = (tileWidth - sizeX) / 2;
-        double offsetY = (tileHeight - sizeY) / 2;
-        double px = (x - cameraStartCol) * tileWidth + offsetX;
-        double py = (y - cameraStartRow) * tileHeight + offsetY;
-
-        animateToPosition(px, py, onAnimationFinished);
-        representation.setFitWidth(sizeX);
-        representation.setFitHeight(sizeY);
-    }
-
-    private void animateToPosition(double toX, double toY, Runnable onFinished) {
-        TranslateTransition transition = new TranslateTransition(Duration.millis(50), representation);
-        transition.setToX(toX);
-        transition.setToY(toY);
-        transition.setOnFinished(e -> {
-            if (onFinished != null) onFinished.run();
-        });
-        transition.play();
-    }
-
-    public List<GameMonster> attack(List<GameMonster> gameMonsters, int range, Consumer<GameMonster> onHitEffectFinished) {
+    public List<GameMonster> attack(List<GameMonster> gameMonsters, int range, long now, Consumer<GameMonster> onHitEffectFinished) {
         List<GameMonster> eliminated = new ArrayList<>();
 
         for (GameMonster gameMonster : gameMonsters) {
@@ -162,12 +122,12 @@ public class Player {
             int dx = Math.abs(gameMonster.getX() - x);
             int dy = Math.abs(gameMonster.getY() - y);
 
-            if (dx <= range && dy <= range && !GameController.getGameController().isLineOfSightClear(x, y, gameMonster.getX(), gameMonster.getY())) {
+            if (dx <= range && dy <= range && GameController.getGameController().isVisibleFromPlayer(gameMonster.getX(), gameMonster.getY())) {
                 gameMonster.takeDamage(damage);
                 System.out.println("Damage: " + damage + " monster: " + gameMonster.getNameEng());
                 if (gameMonster.getHealth() <= 0) eliminated.add(gameMonster);
 
-                gameMonster.showHitEffect(() -> {
+                gameMonster.showHitEffect(now, () -> {
                     if (eliminated.contains(gameMonster)) onHitEffectFinished.accept(gameMonster);
                 });
             }
@@ -177,20 +137,19 @@ public class Player {
     }
 
 
-    public boolean canMoveNow() {
-        long now = System.nanoTime();
+    public boolean canMoveNow(long now) {
         return (now - lastMoveTime) >= MOVE_COOLDOWN_NS;
     }
 
-    public void recordMoveTime() {
-        lastMoveTime = System.nanoTime();
+    public void recordMoveTime(long now) {
+        lastMoveTime = now;
     }
 
-    public boolean canAttackNow() {
-        return (System.nanoTime() - lastAttackTime) >= ATTACK_COOLDOWN_NS;
+    public boolean canAttackNow(long now) {
+        return (now - lastAttackTime) >= ATTACK_COOLDOWN_NS;
     }
 
-    public void recordAttackTime() {
-        lastAttackTime = System.nanoTime();
+    public void recordAttackTime(long now) {
+        lastAttackTime = now;
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.gnome.gnome.inventory;
 
 import com.gnome.gnome.MainApplication;
 import com.gnome.gnome.dao.ArmorDAO;
+import com.gnome.gnome.dao.DaoExecutor;
 import com.gnome.gnome.dao.PotionDAO;
 import com.gnome.gnome.dao.WeaponDAO;
 import com.gnome.gnome.models.Armor;
@@ -30,6 +31,7 @@ import javafx.stage.Stage;
 
 import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 public class InventoryController {
@@ -89,11 +91,39 @@ public class InventoryController {
         refreshItems();
     }
 
+    /**
+     * The items the user has equipped, loaded together off the FX thread.
+     */
+    private record EquippedItems(Weapon weapon, Armor armor, Potion potion) {}
+
     private void refreshItems() {
-        // Load items based on user state
-        weapon = userState.getWeaponId() != null ? weaponDAO.getWeaponById(userState.getWeaponId()) : null;
-        armor = userState.getArmorId() != null ? armorDAO.getArmorById(userState.getArmorId()) : null;
-        potion = userState.getPotionId() != null ? potionDAO.getPotionById(userState.getPotionId()) : null;
+        // Nothing can be sold until the items are known again
+        sellWeaponButton.setDisable(true);
+        sellArmorButton.setDisable(true);
+        sellPotionButton.setDisable(true);
+
+        // Load items based on user state, all three lookups run concurrently
+        Integer weaponId = userState.getWeaponId();
+        Integer armorId = userState.getArmorId();
+        Integer potionId = userState.getPotionId();
+        CompletableFuture<Weapon> weaponFuture = weaponId != null
+                ? DaoExecutor.supplyAsync(() -> weaponDAO.getWeaponById(weaponId)) : CompletableFuture.completedFuture(null);
+        CompletableFuture<Armor> armorFuture = armorId != null
+                ? DaoExecutor.supplyAsync(() -> armorDAO.getArmorById(armorId)) : CompletableFuture.completedFuture(null);
+        CompletableFuture<Potion> potionFuture = potionId != null
+                ? DaoExecutor.supplyAsync(() -> potionDAO.getPotionById(potionId)) : CompletableFuture.completedFuture(null);
+
+        CompletableFuture<EquippedItems> items = CompletableFuture.allOf(weaponFuture, armorFuture, potionFuture)
+                .thenApply(v -> new EquippedItems(weaponFuture.join(), armorFuture.join(), potionFuture.join()));
+        DaoExecutor.onFxThread(items, this::showItems,
+                e -> CustomPopupUtil.showError((Stage) mainBorderPane.getScene().getWindow(),
+                        bundle.getString("popup.data.load.failed")));
+    }
+
+    private void showItems(EquippedItems items) {
+        weapon = items.weapon();
+        armor = items.armor();
+        potion = items.potion();
 
         // Update Weapon UI
         if (weapon != null && userState.getWeaponId() != 0) {
@@ -134,7 +134,7 @@ public class LoginRegistrationController {
             return;
         }
 
-        if (!DatabaseWrapper.getInstance().getConnection().isClosed()) {
+        if (!DatabaseWrapper.getInstance().isClosed()) {
             LoginResult result = LoginRegistrationService.loginUser(username, password);
 
             if (result.getUser() != null) {
@@ -144,6 +144,8 @@ public class LoginRegistrationController {
                 UserGameStateDAO userGameStateDAO = new UserGameStateDAO();
                 UserStatisticsDAO userStatisticsDAO = new UserStatisticsDAO();
 
+                // unsaved changes of a previous session must reach the database before its rows are read
+                UserState.getInstance().flush();
                 UserGameState userGameState = userGameStateDAO.getUserGameStateByUsername(username);
                 AuthUser authUser = authUserDAO.getAuthUserByUsername(username);
                 UserStatistics userStatistics = userStatisticsDAO.getUserStatisticsByUsername(username);
@@ -189,7 +191,7 @@ public class LoginRegistrationController {
             return;
         }
 
-        if (!DatabaseWrapper.getInstance().getConnection().isClosed()) {
+        if (!DatabaseWrapper.getInstance().isClosed()) {
             LoginResult result = LoginRegistrationService.registerUser(username, password);
 
             if (result.getUser() != null) {
@@ -0,0 +1,32 @@
+package com.gnome.gnome.models;
+
+
+import com.gnome.gnome.MainApplication;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Listing view of a {@link Map}: its names and counters without the map grid.
+ * Screens that list maps load these, and fetch the full map only once one is opened or played.
+ */
+@Data
+@AllArgsConstructor
+public class MapSummary {
+    private int id;
+    private String username;
+    private int scoreVal;
+    private String mapNameEng;
+    private String mapNameSk;
+    private int level;
+    private int timesPlayed;
+    private int timesCompleted;
+
+    public String getName(){
+        if (MainApplication.getLang() == 'E') {
+            return mapNameEng;
+        }
+        else{
+            return mapNameSk;
+        }
+    }
+}
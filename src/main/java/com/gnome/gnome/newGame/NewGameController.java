@@ -1,11 +1,12 @@
 package com.gnome.gnome.newGame;
 
+import com.gnome.gnome.MainApplication;
 import com.gnome.gnome.dao.*;
 import com.gnome.gnome.game.MapLoaderService;
 import com.gnome.gnome.game.MapLoaderUIHandler;
-import com.gnome.gnome.models.Map;
 import com.gnome.gnome.switcher.switcherPage.PageSwitcherInterface;
 import com.gnome.gnome.switcher.switcherPage.SwitchPage;
+import com.gnome.gnome.utils.CustomPopupUtil;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -13,7 +14,7 @@ import javafx.scene.control.*;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
 
-import java.util.List;
+import java.util.ResourceBundle;
 
 public class NewGameController {
 
@@ -55,16 +56,22 @@ public class NewGameController {
         PotionDAO potionDAO = new PotionDAO();
         MapDAO mapDAO = new MapDAO();
 
-        List<Map> randomMaps = mapDAO.getMapsOrderedByRandom();
-
-        System.out.println(randomMaps.size());
-        Map selectedMap = randomMaps.getFirst();
-
         Stage stage = (Stage) newGameBorderPane.getScene().getWindow();
-
-        mapLoaderService = new MapLoaderService(monsterDAO, armorDAO, weaponDAO, potionDAO);
-
-        new MapLoaderUIHandler(mapLoaderService, stage).showStartMap(selectedMap);
+        ResourceBundle bundle = MainApplication.getLangBundle();
+
+        otherModeButton.setDisable(true);
+        DaoExecutor.onFxThread(DaoExecutor.supplyAsync(mapDAO::getRandomMap), selectedMap -> {
+            otherModeButton.setDisable(false);
+            if (selectedMap == null) {
+                CustomPopupUtil.showError(stage, bundle.getString("popup.data.load.failed"));
+                return;
+            }
+            mapLoaderService = new MapLoaderService(monsterDAO, armorDAO, weaponDAO, potionDAO);
+            new MapLoaderUIHandler(mapLoaderService, stage).showStartMap(selectedMap);
+        }, e -> {
+            otherModeButton.setDisable(false);
+            CustomPopupUtil.showError(stage, bundle.getString("popup.data.load.failed"));
+        });
 
 //        Alert alert = new Alert(Alert.AlertType.INFORMATION);
 //        alert.setHeaderText(null);
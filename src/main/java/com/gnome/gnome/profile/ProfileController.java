@@ -1,12 +1,13 @@
 package com.gnome.gnome.profile;
 
 import com.gnome.gnome.MainApplication;
+import com.gnome.gnome.dao.DaoExecutor;
 import com.gnome.gnome.dao.UserStatisticsDAO;
 import com.gnome.gnome.dao.userDAO.AuthUserDAO;
 import com.gnome.gnome.dao.MapDAO;
 import com.gnome.gnome.dao.userDAO.UserGameStateDAO;
 import com.gnome.gnome.game.GameController;
-import com.gnome.gnome.models.Map;
+import com.gnome.gnome.models.MapSummary;
 import com.gnome.gnome.models.UserStatistics;
 import com.gnome.gnome.models.user.AuthUser;
 import com.gnome.gnome.models.user.PlayerRole;
@@ -43,6 +44,7 @@ import org.w3c.dom.NodeList;
 import java.io.File;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 import java.util.ResourceBundle;
 
@@ -86,7 +88,7 @@ public class ProfileController {
 
     // State
     private boolean mapLoading = false;
-    private List<Map> userMaps;
+    private List<MapSummary> userMaps;
     private PlayerRole selectedUserRole;
     private String selectedUsername;
     private AuthUser user;
@@ -125,21 +127,41 @@ public class ProfileController {
         this.selectedUsername = playerData;
         logger.info("Loading profile for: " + selectedUsername);
 
-        // Load user data
-        user = userDAO.getAuthUserByUsername(selectedUsername.trim());
-        if (user == null) {
+        // Load user data, maps, game state and statistics concurrently off the FX thread
+        String username = selectedUsername;
+        UserGameStateDAO gameStateDAO = new UserGameStateDAO();
+        UserStatisticsDAO userStatisticsDAO = new UserStatisticsDAO();
+        CompletableFuture<AuthUser> userFuture = DaoExecutor.supplyAsync(() -> userDAO.getAuthUserByUsername(username.trim()));
+        CompletableFuture<List<MapSummary>> mapsFuture = DaoExecutor.supplyAsync(() -> mapDAO.getMapSummariesByUsernameOrdered(username));
+        CompletableFuture<UserGameState> gameStateFuture = DaoExecutor.supplyAsync(() -> gameStateDAO.getUserGameStateByUsername(username));
+        CompletableFuture<UserStatistics> statisticsFuture = DaoExecutor.supplyAsync(() -> userStatisticsDAO.getUserStatisticsByUsername(username));
+
+        CompletableFuture<ProfileData> profile = CompletableFuture.allOf(userFuture, mapsFuture, gameStateFuture, statisticsFuture)
+                .thenApply(v -> new ProfileData(username, userFuture.join(), mapsFuture.join(),
+                        gameStateFuture.join(), statisticsFuture.join()));
+        DaoExecutor.onFxThread(profile, this::showProfile,
+                e -> CustomPopupUtil.showError((Stage) profilePage.getScene().getWindow(),
+                        bundle.getString("popup.data.load.failed")));
+    }
+
+    /**
+     * Everything shown on the profile page, loaded in one go.
+     */
+    private record ProfileData(String username, AuthUser user, List<MapSummary> maps,
+                               UserGameState gameState, UserStatistics statistics) {}
+
+    private void showProfile(ProfileData profile) {
+        // another profile was requested while this one loaded
+        if (!profile.username().equals(selectedUsername)) return;
+
+        if (profile.user() == null) {
             logger.warning("User not found: " + selectedUsername);
             return;
         }
-
-        // Load user maps
-        userMaps = mapDAO.getMapsByUsernameOrdered(selectedUsername);
-
-        // Load game state and statistics
-        UserGameStateDAO gameStateDAO = new UserGameStateDAO();
-        UserStatisticsDAO userStatisticsDAO = new UserStatisticsDAO();
-        UserGameState gameState = gameStateDAO.getUserGameStateByUsername(selectedUsername);
-        UserStatistics userStatistics = userStatisticsDAO.getUserStatisticsByUsername(selectedUsername);
+        user = profile.user();
+        userMaps = profile.maps();
+        UserGameState gameState = profile.gameState();
+        UserStatistics userStatistics = profile.statistics();
 
         // Update UI with user data
         nameLabel.setText(String.format(bundle.getString("profile.title"), user.getUsername()));
@@ -307,7 +329,7 @@ public class ProfileController {
         mapListView.getItems().clear();
 
         for (int i = 0; i < userMaps.size(); i++) {
-            Map map = userMaps.get(i);
+            MapSummary map = userMaps.get(i);
             double successPercent = map.getTimesPlayed() > 0
                     ? (double) map.getTimesCompleted() / map.getTimesPlayed()
                     : 0;
@@ -373,16 +395,20 @@ public class ProfileController {
         noButton.getStyleClass().add("menu-button");
 
         yesButton.setOnAction(e -> {
-            boolean deleted = userDAO.deleteUserByUsername(selectedUsername);
             confirmPopup.hide();
-            if (deleted) {
-                logger.info("User deleted: " + selectedUserRole);
-                pageSwitch.goMainMenu(profilePage);
-                CustomPopupUtil.showSuccess(stage, bundle.getString("popup.user.deleted.success"));
-            } else {
-                logger.warning("Failed to delete user: " + selectedUserRole);
-                CustomPopupUtil.showError(stage, String.format(bundle.getString("popup.user.delete.failed"),selectedUserRole) );
-            }
+            String username = selectedUsername;
+            DaoExecutor.onFxThread(DaoExecutor.supplyAsync(() -> userDAO.deleteUserByUsername(username)),
+                    deleted -> {
+                        if (deleted) {
+                            logger.info("User deleted: " + selectedUserRole);
+                            pageSwitch.goMainMenu(profilePage);
+                            CustomPopupUtil.showSuccess(stage, bundle.getString("popup.user.deleted.success"));
+                        } else {
+                            logger.warning("Failed to delete user: " + selectedUserRole);
+                            CustomPopupUtil.showError(stage, String.format(bundle.getString("popup.user.delete.failed"),selectedUserRole) );
+                        }
+                    },
+                    error -> CustomPopupUtil.showError(stage, String.format(bundle.getString("popup.user.delete.failed"),selectedUserRole)));
         });
 
         noButton.setOnAction(e -> confirmPopup.hide());
@@ -414,23 +440,28 @@ public class ProfileController {
         File file = fileChooser.showOpenDialog(stage);
 
         if (file != null) {
+            UserStatistics stats;
             try {
-                UserStatisticsDAO userStatisticsDAO = new UserStatisticsDAO();
-                UserStatistics stats = parseStatisticsFromFXML(file);
-                stats.setUsername(selectedUsername);
-                boolean updated = userStatisticsDAO.updateUserStatistics(stats);
-
-                if (updated) {
-                    CustomPopupUtil.showSuccess(stage, "Statistics successfully uploaded");
-                    setPlayer(selectedUsername); // Refresh profile page
-                } else {
-                    logger.warning("Failed to update statistics for user: " + selectedUsername);
-                    CustomPopupUtil.showError(stage, "Failed to update statistics in database");
-                }
+                stats = parseStatisticsFromFXML(file);
             } catch (Exception e) {
                 logger.warning("Error uploading statistics: " + e.getMessage());
                 CustomPopupUtil.showError(stage, "Error parsing FXML file: " + e.getMessage());
+                return;
             }
+            stats.setUsername(selectedUsername);
+
+            UserStatisticsDAO userStatisticsDAO = new UserStatisticsDAO();
+            DaoExecutor.onFxThread(DaoExecutor.supplyAsync(() -> userStatisticsDAO.updateUserStatistics(stats)),
+                    updated -> {
+                        if (updated) {
+                            CustomPopupUtil.showSuccess(stage, "Statistics successfully uploaded");
+                            setPlayer(selectedUsername); // Refresh profile page
+                        } else {
+                            logger.warning("Failed to update statistics for user: " + selectedUsername);
+                            CustomPopupUtil.showError(stage, "Failed to update statistics in database");
+                        }
+                    },
+                    error -> CustomPopupUtil.showError(stage, "Failed to update statistics in database"));
         }
     }
 
@@ -444,15 +475,19 @@ public class ProfileController {
         File file = fileChooser.showSaveDialog(stage);
 
         if (file != null) {
-            try {
-                UserStatisticsDAO userStatisticsDAO = new UserStatisticsDAO();
-                UserStatistics stats = userStatisticsDAO.getUserStatisticsByUsername(selectedUsername);
-                saveStatisticsToFXML(stats, file);
-                CustomPopupUtil.showSuccess(stage, "Statistics successfully downloaded");
-            } catch (Exception e) {
-                logger.warning("Error downloading statistics: " + e.getMessage());
-                CustomPopupUtil.showError(stage, "Error saving FXML file");
-            }
+            String username = selectedUsername;
+            UserStatisticsDAO userStatisticsDAO = new UserStatisticsDAO();
+            DaoExecutor.onFxThread(DaoExecutor.supplyAsync(() -> userStatisticsDAO.getUserStatisticsByUsername(username)),
+                    stats -> {
+                        try {
+                            saveStatisticsToFXML(stats, file);
+                            CustomPopupUtil.showSuccess(stage, "Statistics successfully downloaded");
+                        } catch (Exception e) {
+                            logger.warning("Error downloading statistics: " + e.getMessage());
+                            CustomPopupUtil.showError(stage, "Error saving FXML file");
+                        }
+                    },
+                    error -> CustomPopupUtil.showError(stage, "Error saving FXML file"));
         }
     }
 
@@ -466,17 +501,23 @@ public class ProfileController {
         File file = fileChooser.showSaveDialog(stage);
 
         if (file != null) {
-            try {
-                UserStatisticsDAO userStatisticsDAO = new UserStatisticsDAO();
-                UserStatistics stats = userStatisticsDAO.getUserStatisticsByUsername(selectedUsername);
-                UserGameStateDAO gameStateDAO = new UserGameStateDAO();
-                UserGameState gameState = gameStateDAO.getUserGameStateByUsername(selectedUsername);
-                saveFullProfileToFXML(stats, user, gameState, userMaps, file);
-                CustomPopupUtil.showSuccess(stage, "Full profile successfully downloaded");
-            } catch (Exception e) {
-                logger.warning("Error downloading full profile: " + e.getMessage());
-                CustomPopupUtil.showError(stage, "Error saving FXML file");
-            }
+            String username = selectedUsername;
+            UserStatisticsDAO userStatisticsDAO = new UserStatisticsDAO();
+            UserGameStateDAO gameStateDAO = new UserGameStateDAO();
+            CompletableFuture<UserStatistics> statsFuture = DaoExecutor.supplyAsync(() -> userStatisticsDAO.getUserStatisticsByUsername(username));
+            CompletableFuture<UserGameState> gameStateFuture = DaoExecutor.supplyAsync(() -> gameStateDAO.getUserGameStateByUsername(username));
+
+            DaoExecutor.onFxThread(CompletableFuture.allOf(statsFuture, gameStateFuture),
+                    v -> {
+                        try {
+                            saveFullProfileToFXML(statsFuture.join(), user, gameStateFuture.join(), userMaps, file);
+                            CustomPopupUtil.showSuccess(stage, "Full profile successfully downloaded");
+                        } catch (Exception e) {
+                            logger.warning("Error downloading full profile: " + e.getMessage());
+                            CustomPopupUtil.showError(stage, "Error saving FXML file");
+                        }
+                    },
+                    error -> CustomPopupUtil.showError(stage, "Error saving FXML file"));
         }
     }
 
@@ -580,7 +621,7 @@ public class ProfileController {
         transformer.transform(source, result);
     }
 
-    private void saveFullProfileToFXML(UserStatistics stats, AuthUser user, UserGameState gameState, List<Map> maps, File file) throws Exception {
+    private void saveFullProfileToFXML(UserStatistics stats, AuthUser user, UserGameState gameState, List<MapSummary> maps, File file) throws Exception {
         DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
         DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
         Document doc = dBuilder.newDocument();
@@ -629,7 +670,7 @@ public class ProfileController {
         Element createdMaps = doc.createElement("createdMaps");
         rootElement.appendChild(createdMaps);
 
-        for (Map map : maps) {
+        for (MapSummary map : maps) {
             Element mapElement = doc.createElement("map");
             createdMaps.appendChild(mapElement);
 
@@ -679,24 +720,32 @@ public class ProfileController {
         }
 
         PlayerRole selectedRole = roles.get(currentRoleIndex);
-        user.setRole(selectedRole);
-        boolean updated = userDAO.updateUserRole(user);
-        if (updated) {
-            logger.info("Role updated to " + selectedRole + " for user " + selectedUsername);
-            CustomPopupUtil.showSuccess(stage, String.format(
-                    bundle.getString("popup.role.updated.success"),
-                    selectedRole.toString(),
-                    selectedUsername
-            ));
-            selectedUserRole = selectedRole;
-            updateButtonVisibility();
-        } else {
-            logger.warning("Failed to update role for user: " + selectedUsername);
-            CustomPopupUtil.showError(stage, String.format(
-                    bundle.getString("popup.role.update.failed"),
-                    selectedUsername
-            ));
-        }
+        AuthUser target = user;
+        target.setRole(selectedRole);
+        DaoExecutor.onFxThread(DaoExecutor.supplyAsync(() -> userDAO.updateUserRole(target)),
+                updated -> {
+                    if (updated) {
+                        logger.info("Role updated to " + selectedRole + " for user " + selectedUsername);
+                        CustomPopupUtil.showSuccess(stage, String.format(
+                                bundle.getString("popup.role.updated.success"),
+                                selectedRole.toString(),
+                                selectedUsername
+                        ));
+                        selectedUserRole = selectedRole;
+                        updateButtonVisibility();
+                    } else {
+                        showRoleUpdateFailed(stage);
+                    }
+                },
+                error -> showRoleUpdateFailed(stage));
+    }
+
+    private void showRoleUpdateFailed(Stage stage) {
+        logger.warning("Failed to update role for user: " + selectedUsername);
+        CustomPopupUtil.showError(stage, String.format(
+                bundle.getString("popup.role.update.failed"),
+                selectedUsername
+        ));
     }
 
 }
\ No newline at end of file
@@ -5,9 +5,10 @@ import com.gnome.gnome.dao.*;
 import com.gnome.gnome.game.MapLoaderService;
 import com.gnome.gnome.game.MapLoaderUIHandler;
 import com.gnome.gnome.userState.UserState;
-import com.gnome.gnome.models.Map;
+import com.gnome.gnome.models.MapSummary;
 import com.gnome.gnome.switcher.switcherPage.PageSwitcherInterface;
 import com.gnome.gnome.switcher.switcherPage.SwitchPage;
+import com.gnome.gnome.utils.CustomPopupUtil;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -42,12 +43,21 @@ public class StoryModeController {
 
         pageSwitch = new SwitchPage();
         MapDAO mapDAO = new MapDAO();
-        List<Map> allLevelMaps = mapDAO.getAllLevelMaps();
+        DaoExecutor.onFxThread(DaoExecutor.supplyAsync(mapDAO::getLevelMapSummaries), this::showMaps,
+                e -> CustomPopupUtil.showError(getStage(), bundle.getString("popup.data.load.failed")));
+    }
+
+    /**
+     * Fills the list with one entry per story map once they were loaded.
+     *
+     * @param allLevelMaps the story maps ordered by level
+     */
+    private void showMaps(List<MapSummary> allLevelMaps) {
         int totalMaps = allLevelMaps.size();
         int currentLevel = UserState.getInstance().getMapLevel();
 
         for (int i = 0; i < totalMaps; i++) {
-            Map selectedMap = allLevelMaps.get(i);
+            MapSummary selectedMap = allLevelMaps.get(i);
             int mapLevel = selectedMap.getLevel();
 
             // Create map entry HBox
@@ -110,7 +120,7 @@ public class StoryModeController {
             mapButton.setOnAction(e -> {
                 if (!mapButton.isDisabled()) {
                     if (mapLoaderService == null) {
-                        Stage stage = (Stage) storyMapsBorderPane.getScene().getWindow();
+                        Stage stage = getStage();
                         mapLoaderService = new MapLoaderService(monsterDAO, armorDAO, weaponDAO, potionDAO);
                         new MapLoaderUIHandler(mapLoaderService, stage).showStartMap(selectedMap);
                     }
@@ -123,6 +133,10 @@ public class StoryModeController {
         }
     }
 
+    private Stage getStage() {
+        return (Stage) storyMapsBorderPane.getScene().getWindow();
+    }
+
     @FXML
     private void onBackButtonClick(ActionEvent event) {
         pageSwitch.goNewGame(storyMapsBorderPane);
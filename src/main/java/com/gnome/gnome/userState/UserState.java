@@ -3,14 +3,29 @@ package com.gnome.gnome.userState;
 import com.gnome.gnome.dao.UserStatisticsDAO;
 import com.gnome.gnome.dao.userDAO.AuthUserDAO;
 import com.gnome.gnome.dao.userDAO.UserGameStateDAO;
+import com.gnome.gnome.game.GameInitializer;
 import com.gnome.gnome.models.UserStatistics;
 import com.gnome.gnome.models.user.AuthUser;
 import com.gnome.gnome.models.user.PlayerRole;
 import com.gnome.gnome.models.user.UserGameState;
+import lombok.AccessLevel;
 import lombok.Getter;
 
+/**
+ * In-memory state of the logged-in user.
+ * <p>
+ * The values held here are authoritative while the user plays. Setters only update memory and hand a
+ * snapshot of the changed row to a {@link UserStateWriter}, which saves coalesced changes in the background,
+ * so callers never wait for the database.
+ * </p>
+ */
 @Getter
 public class UserState {
+    /** How long to wait for the final write when the application stops */
+    private static final long SHUTDOWN_FLUSH_TIMEOUT_MILLIS = 5_000;
+    /** How long logout and login wait for unsaved changes to be written */
+    private static final long SESSION_FLUSH_TIMEOUT_MILLIS = 3_000;
+
     private static UserState instance;
 
     private String username;
@@ -34,6 +49,10 @@ public class UserState {
     private final UserGameStateDAO userGameStateDAO = new UserGameStateDAO();
     private final AuthUserDAO authUserDAO = new AuthUserDAO();
     private final UserStatisticsDAO userStatisticsDAO = new UserStatisticsDAO();
+    @Getter(AccessLevel.NONE)
+    private final UserStateWriter writer = new UserStateWriter(userGameStateDAO, userStatisticsDAO,
+            GameInitializer.loadIntProperty("app.user_state_flush_debounce_ms", 500),
+            GameInitializer.loadIntProperty("app.user_state_flush_max_delay_ms", 3000));
 
     private UserState() {
     }
@@ -51,72 +70,80 @@ public class UserState {
             UserStatistics userStatistics
     ) {
         UserState userState = getInstance();
-        userState.username = authUser.getUsername();
-        userState.role = authUser.getRole();
-
-        userState.balance = userGameState.getBalance();
-        userState.health = userGameState.getHealth();
-        userState.score = userGameState.getScore();
-        userState.mapLevel = userGameState.getMapLevel();
-        userState.weaponId = userGameState.getWeaponId();
-        userState.potionId = userGameState.getPotionId();
-        userState.armorId = userGameState.getArmorId();
-
-        userState.totalDeaths = userStatistics.getTotalDeaths();
-        userState.totalMapsPlayed = userStatistics.getTotalMapsPlayed();
-        userState.totalChestsOpened = userStatistics.getTotalChestsOpened();
-        userState.totalWins = userStatistics.getTotalWins();
-        userState.totalMonstersKilled = userStatistics.getTotalMonstersKilled();
+        synchronized (userState) {
+            // the rows just read are older than what this user still has unsaved in memory, keep the memory
+            if (authUser.getUsername().equals(userState.username) && userState.writer.hasPendingChanges()) {
+                return;
+            }
+            // the previous user's unsaved rows stay queued under their name, write them without waiting
+            userState.writer.flushSoon();
+            userState.username = authUser.getUsername();
+            userState.role = authUser.getRole();
+
+            userState.balance = userGameState.getBalance();
+            userState.health = userGameState.getHealth();
+            userState.score = userGameState.getScore();
+            userState.mapLevel = userGameState.getMapLevel();
+            userState.weaponId = userGameState.getWeaponId();
+            userState.potionId = userGameState.getPotionId();
+            userState.armorId = userGameState.getArmorId();
+
+            userState.totalDeaths = userStatistics.getTotalDeaths();
+            userState.totalMapsPlayed = userStatistics.getTotalMapsPlayed();
+            userState.totalChestsOpened = userStatistics.getTotalChestsOpened();
+            userState.totalWins = userStatistics.getTotalWins();
+            userState.totalMonstersKilled = userStatistics.getTotalMonstersKilled();
+        }
     }
 
-    // Setters with immediate database update
+    // Setters update memory and queue a background save
 //    public void setRole(String role) {
 //        this.role = role;
 //        AuthUser authUser = new AuthUser(username, null, role);
 //        authUserDAO.updateUserRole(authUser);
 //    }
 
-    public void setBalance(float balance) {
+    public synchronized void setBalance(float balance) {
         this.balance = balance;
         updateUserGameState();
     }
 
-    public void setHealth(float health) {
+    public synchronized void setHealth(float health) {
         this.health = health;
         updateUserGameState();
     }
 
-    public void setScore(int score) {
+    public synchronized void setScore(int score) {
         this.score = score;
         updateUserGameState();
     }
 
-    public void setDeathCounter(int deathCounter) {
+    public synchronized void setDeathCounter(int deathCounter) {
         this.deathCounter = deathCounter;
         updateUserGameState();
     }
 
-    public void setMapLevel(int mapLevel) {
+    public synchronized void setMapLevel(int mapLevel) {
         this.mapLevel = Math.max(mapLevel, this.mapLevel);
         updateUserGameState();
     }
 
-    public void setWeaponId(Integer weaponId) {
+    public synchronized void setWeaponId(Integer weaponId) {
         this.weaponId = weaponId;
         updateUserGameState();
     }
 
-    public void setPotionId(Integer potionId) {
+    public synchronized void setPotionId(Integer potionId) {
         this.potionId = potionId;
         updateUserGameState();
     }
 
-    public void setArmorId(Integer armorId) {
+    public synchronized void setArmorId(Integer armorId) {
         this.armorId = armorId;
         updateUserGameState();
     }
 
-    public void setUpdateStats(int totalMonstersKilled, boolean isWin, int totalChestsOpened) {
+    public synchronized void setUpdateStats(int totalMonstersKilled, boolean isWin, int totalChestsOpened) {
         this.totalMapsPlayed = this.totalMapsPlayed + 1;
         this.totalMonstersKilled = this.totalMonstersKilled + totalMonstersKilled;
         if (isWin) {
@@ -130,15 +157,37 @@ public class UserState {
         updateUserStatistics();
     }
 
-    public void setUpdatePlayerState(int score, double coins) {
+    public synchronized void setUpdatePlayerState(int score, double coins) {
         this.score = this.score + score;
         this.balance = (float) (this.balance + coins);
 
         updateUserGameState();
     }
 
+    /**
+     * Starts saving unsaved changes right away without waiting, e.g. when the game scene is left.
+     */
+    public void flushSoon() {
+        writer.flushSoon();
+    }
 
+    /**
+     * Saves unsaved changes and waits for the write, e.g. on logout and before a login reads the user's rows,
+     * so they are never older than the state held here.
+     *
+     * @return whether everything was written in time
+     */
+    public boolean flush() {
+        return writer.flush(SESSION_FLUSH_TIMEOUT_MILLIS);
+    }
 
+    /**
+     * Saves unsaved changes, waiting for the write, and stops the background writer.
+     * Called once when the application stops.
+     */
+    public void shutdown() {
+        writer.shutdown(SHUTDOWN_FLUSH_TIMEOUT_MILLIS);
+    }
 
     private void updateUserGameState() {
         UserGameState userGameState = new UserGameState(
@@ -151,7 +200,7 @@ public class UserState {
                 potionId,
                 armorId
         );
-        userGameStateDAO.updateUserGameState(userGameState);
+        writer.submit(userGameState);
     }
 
     private void updateUserStatistics() {
@@ -163,6 +212,6 @@ public class UserState {
                 totalMonstersKilled,
                 totalChestsOpened
         );
-        userStatisticsDAO.updateUserStatistics(userStatistics);
+        writer.submit(userStatistics);
     }
 }
@@ -0,0 +1,197 @@
+package com.gnome.gnome.userState;
+
+import com.gnome.gnome.dao.UserStatisticsDAO;
+import com.gnome.gnome.dao.userDAO.UserGameStateDAO;
+import com.gnome.gnome.models.UserStatistics;
+import com.gnome.gnome.models.user.UserGameState;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write-behind persistence of {@link UserState}.
+ * <p>
+ * Setters hand the writer a snapshot of the changed row and return immediately. Snapshots of the same row,
+ * i.e. the same table and username, replace each other, so a burst of changes (a level completion, a shop visit) becomes a single
+ * {@code UPDATE} per row. A flush runs on a background thread {@code debounceMillis} after the last change,
+ * but never later than {@code maxDelayMillis} after the first unsaved one, and can be forced with
+ * {@link #flushSoon()} or {@link #flush(long)}. Rows of a user who logged out are kept until written, even
+ * if another user logs in and changes state before the flush.
+ * </p>
+ * <p>
+ * A snapshot whose write failed stays pending unless a newer one replaced it, and is retried with the
+ * next flush.
+ * </p>
+ */
+public class UserStateWriter {
+    private static final Logger logger = Logger.getLogger(UserStateWriter.class.getName());
+
+    private final UserGameStateDAO userGameStateDAO;
+    private final UserStatisticsDAO userStatisticsDAO;
+    private final long debounceMillis;
+    private final long maxDelayMillis;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-state-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Latest unsaved snapshot per username; guarded by {@code this} */
+    private final Map<String, UserGameState> pendingGameStates = new LinkedHashMap<>();
+    private final Map<String, UserStatistics> pendingStatistics = new LinkedHashMap<>();
+    /** When the oldest unsaved change was made, {@code 0} if nothing is pending */
+    private long firstDirtyAt;
+    private ScheduledFuture<?> scheduledFlush;
+    private long scheduledAt;
+
+    /**
+     * @param userGameStateDAO  writes the game state row
+     * @param userStatisticsDAO writes the statistics row
+     * @param debounceMillis    quiet time after the last change before writing
+     * @param maxDelayMillis    longest time a change may stay unsaved
+     */
+    public UserStateWriter(UserGameStateDAO userGameStateDAO, UserStatisticsDAO userStatisticsDAO,
+                           long debounceMillis, long maxDelayMillis) {
+        this.userGameStateDAO = userGameStateDAO;
+        this.userStatisticsDAO = userStatisticsDAO;
+        this.debounceMillis = Math.max(0, debounceMillis);
+        this.maxDelayMillis = Math.max(this.debounceMillis, maxDelayMillis);
+    }
+
+    /**
+     * Queues the game state row for writing, replacing any unsaved snapshot of it.
+     */
+    public synchronized void submit(UserGameState snapshot) {
+        pendingGameStates.put(snapshot.getUsername(), snapshot);
+        markDirty();
+    }
+
+    /**
+     * Queues the statistics row for writing, replacing any unsaved snapshot of it.
+     */
+    public synchronized void submit(UserStatistics snapshot) {
+        pendingStatistics.put(snapshot.getUsername(), snapshot);
+        markDirty();
+    }
+
+    /**
+     * Starts writing pending changes right away without waiting for the write, e.g. when a scene is left.
+     */
+    public synchronized void flushSoon() {
+        if (firstDirtyAt != 0) schedule(0);
+    }
+
+    /**
+     * Writes pending changes and waits for the write, e.g. on application shutdown.
+     *
+     * @param timeoutMillis how long to wait at most
+     * @return whether everything was written in time
+     */
+    public boolean flush(long timeoutMillis) {
+        try {
+            executor.submit(this::writePending).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.log(Level.WARNING, "User state flush did not finish", e);
+        }
+        return !hasPendingChanges();
+    }
+
+    public synchronized boolean hasPendingChanges() {
+        return firstDirtyAt != 0;
+    }
+
+    /**
+     * Flushes pending changes and stops the writer thread.
+     *
+     * @param timeoutMillis how long to wait for the final write
+     */
+    public void shutdown(long timeoutMillis) {
+        if (!flush(timeoutMillis)) {
+            logger.warning("Shutting down with unsaved user state");
+        }
+        executor.shutdown();
+    }
+
+    private void markDirty() {
+        long now = System.currentTimeMillis();
+        if (firstDirtyAt == 0) firstDirtyAt = now;
+        long deadline = Math.min(now + debounceMillis, firstDirtyAt + maxDelayMillis);
+        schedule(Math.max(0, deadline - now));
+    }
+
+    /**
+     * Moves the next flush to {@code delayMillis} from now, unless one is already due sooner.
+     */
+    private void schedule(long delayMillis) {
+        long at = System.currentTimeMillis() + delayMillis;
+        if (scheduledFlush != null && !scheduledFlush.isDone()) {
+            if (scheduledAt <= at) return;
+            scheduledFlush.cancel(false);
+        }
+        scheduledAt = at;
+        scheduledFlush = executor.schedule(this::writePending, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs on the writer thread. Takes the pending snapshots, writes them outside the lock and puts back
+     * any that failed, unless a newer snapshot arrived meanwhile.
+     */
+    private void writePending() {
+        List<UserGameState> gameStates;
+        List<UserStatistics> statistics;
+        synchronized (this) {
+            // the flush that is due is this one, changes arriving from now on need a new one
+            if (scheduledFlush != null && scheduledFlush.getDelay(TimeUnit.MILLISECONDS) <= 0) scheduledFlush = null;
+            gameStates = new ArrayList<>(pendingGameStates.values());
+            statistics = new ArrayList<>(pendingStatistics.values());
+            pendingGameStates.clear();
+            pendingStatistics.clear();
+            firstDirtyAt = 0;
+        }
+
+        boolean failed = false;
+        for (UserGameState gameState : gameStates) {
+            try {
+                userGameStateDAO.updateUserGameState(gameState);
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Failed to save game state of " + gameState.getUsername(), e);
+                synchronized (this) {
+                    pendingGameStates.putIfAbsent(gameState.getUsername(), gameState);
+                }
+                failed = true;
+            }
+        }
+        for (UserStatistics userStatistics : statistics) {
+            try {
+                userStatisticsDAO.updateUserStatistics(userStatistics);
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Failed to save statistics of " + userStatistics.getUsername(), e);
+                synchronized (this) {
+                    pendingStatistics.putIfAbsent(userStatistics.getUsername(), userStatistics);
+                }
+                failed = true;
+            }
+        }
+
+        synchronized (this) {
+            if (!pendingGameStates.isEmpty() || !pendingStatistics.isEmpty()) {
+                // retry failures after the longest delay, newer changes on their normal schedule
+                if (firstDirtyAt == 0) firstDirtyAt = System.currentTimeMillis();
+                if (failed) schedule(maxDelayMillis);
+            }
+        }
+    }
+}
@@ -17,7 +17,6 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.sql.SQLException;
 import java.time.Duration;
 import java.util.ResourceBundle;
 
@@ -97,14 +96,10 @@ public class InternetMonitor {
                     }
                     running = false;
                 } else {
-                    try {
-                        if (DatabaseWrapper.getInstance().getConnection().isClosed()) {
-                            running = true;
-                            DatabaseWrapper.getInstance().reconnect();
-                            System.out.println("Internet connection established");
-                        }
-                    } catch (SQLException e) {
-                        throw new RuntimeException(e);
+                    if (DatabaseWrapper.getInstance().isClosed()) {
+                        running = true;
+                        DatabaseWrapper.getInstance().reconnect();
+                        System.out.println("Internet connection established");
                     }
                 }
 
@@ -0,0 +1,241 @@
+package com.gnome.gnome.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Versioned binary encoding of a game map for the {@code map_data} column of the Maps table.
+ * <p>
+ * Layout:
+ * <pre>
+ *   magic 'G' 'M' | version (1 byte) | flags (1 byte) | rows (varint) | cols (varint) | body
+ *   body = runs of (run length (varint), tile value (zigzag varint)) covering the grid row by row,
+ *          deflated when {@link #FLAG_DEFLATE} is set
+ * </pre>
+ * Maps are mostly long stretches of floor or wall, so run-length encoding alone shrinks a typical map
+ * several times compared to the comma separated text of {@link MapParser}. Deflate is only kept when it
+ * makes the result smaller. Decoding writes straight into the grid without creating a string per cell.
+ * </p>
+ */
+public final class MapCodec {
+    public static final int VERSION = 1;
+
+    /** Body is compressed with {@link Deflater} */
+    static final int FLAG_DEFLATE = 1;
+
+    private static final byte MAGIC_0 = 'G';
+    private static final byte MAGIC_1 = 'M';
+    private static final int HEADER_FIXED_BYTES = 4;
+    /** Bodies smaller than this are not worth deflating */
+    private static final int DEFLATE_THRESHOLD_BYTES = 64;
+    /**
+     * Largest number of rows or columns accepted, far above any playable map; keeps a corrupt header from
+     * allocating a huge grid
+     */
+    public static final int MAX_DIMENSION = 1024;
+
+    private MapCodec() {
+    }
+
+    /**
+     * Encodes a rectangular map.
+     *
+     * @param mapData the map as {@code [row][col]}
+     * @return the encoded bytes
+     * @throws IllegalArgumentException if the map is null, larger than {@link #MAX_DIMENSION} or its rows differ in length
+     */
+    public static byte[] encode(int[][] mapData) {
+        if (mapData == null) throw new IllegalArgumentException("Map is null");
+        int rows = mapData.length;
+        int cols = rows == 0 || mapData[0] == null ? 0 : mapData[0].length;
+        checkDimensions(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            if (mapData[i] == null || mapData[i].length != cols) {
+                throw new IllegalArgumentException("Row at index " + i + " does not have " + cols + " columns");
+            }
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        int run = 0;
+        int value = 0;
+        for (int[] row : mapData) {
+            for (int cell : row) {
+                if (run > 0 && cell == value) {
+                    run++;
+                    continue;
+                }
+                if (run > 0) writeRun(body, run, value);
+                value = cell;
+                run = 1;
+            }
+        }
+        if (run > 0) writeRun(body, run, value);
+
+        byte[] raw = body.toByteArray();
+        int flags = 0;
+        if (raw.length >= DEFLATE_THRESHOLD_BYTES) {
+            byte[] deflated = deflate(raw);
+            if (deflated.length < raw.length) {
+                raw = deflated;
+                flags |= FLAG_DEFLATE;
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length + 16);
+        out.write(MAGIC_0);
+        out.write(MAGIC_1);
+        out.write(VERSION);
+        out.write(flags);
+        writeVarInt(out, rows);
+        writeVarInt(out, cols);
+        out.write(raw, 0, raw.length);
+        return out.toByteArray();
+    }
+
+    /**
+     * @return whether the bytes start with the header written by {@link #encode(int[][])}
+     */
+    public static boolean isEncoded(byte[] data) {
+        return data != null && data.length >= HEADER_FIXED_BYTES && data[0] == MAGIC_0 && data[1] == MAGIC_1;
+    }
+
+    /**
+     * Decodes bytes written by {@link #encode(int[][])}.
+     *
+     * @param data the encoded map
+     * @return the map as {@code [row][col]}
+     * @throws IllegalArgumentException if the data is not a map, has an unknown version or is corrupt
+     */
+    public static int[][] decode(byte[] data) {
+        if (!isEncoded(data)) throw new IllegalArgumentException("Not an encoded map");
+        int version = data[2] & 0xFF;
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported map encoding version " + version);
+        int flags = data[3] & 0xFF;
+
+        Reader header = new Reader(data, HEADER_FIXED_BYTES, data.length);
+        int rows = header.readVarInt();
+        int cols = header.readVarInt();
+        checkDimensions(rows, cols);
+
+        Reader body = (flags & FLAG_DEFLATE) != 0
+                ? new Reader(inflate(data, header.position, maxBodyBytes(rows, cols)), 0)
+                : header;
+
+        int[][] mapData = new int[rows][cols];
+        long total = (long) rows * cols;
+        long filled = 0;
+        while (filled < total) {
+            int run = body.readVarInt();
+            int value = zigZagDecode(body.readVarInt());
+            if (run <= 0 || filled + run > total) throw new IllegalArgumentException("Corrupt map run at cell " + filled);
+            for (int i = 0; i < run; i++, filled++) {
+                mapData[(int) (filled / cols)][(int) (filled % cols)] = value;
+            }
+        }
+        return mapData;
+    }
+
+    private static void checkDimensions(int rows, int cols) {
+        if (rows < 0 || cols < 0 || rows > MAX_DIMENSION || cols > MAX_DIMENSION) {
+            throw new IllegalArgumentException("Invalid map dimensions " + rows + "x" + cols);
+        }
+    }
+
+    private static void writeRun(ByteArrayOutputStream out, int run, int value) {
+        writeVarInt(out, run);
+        writeVarInt(out, zigZagEncode(value));
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int zigZagEncode(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int zigZagDecode(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * @return the size of the longest valid body: one run per cell, each two varints of at most 5 bytes
+     */
+    private static int maxBodyBytes(int rows, int cols) {
+        return Math.max(1, rows * cols) * 10;
+    }
+
+    private static byte[] inflate(byte[] data, int offset, int maxBytes) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, offset, data.length - offset);
+            ByteArrayOutputStream out = new ByteArrayOutputStream((data.length - offset) * 4);
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated compressed map");
+                }
+                out.write(buffer, 0, n);
+                if (out.size() > maxBytes) throw new IllegalArgumentException("Compressed map is larger than its dimensions allow");
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt compressed map", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Sequential varint reader over a byte range.
+     */
+    private static final class Reader {
+        private final byte[] data;
+        private final int end;
+        private int position;
+
+        private Reader(byte[] data, int position, int end) {
+            this.data = data;
+            this.position = position;
+            this.end = end;
+        }
+
+        private Reader(byte[] data, int position) {
+            this(data, position, data.length);
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                if (position >= end) throw new IllegalArgumentException("Truncated map data");
+                int b = data[position++];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IllegalArgumentException("Malformed varint in map data");
+        }
+    }
+}
@@ -4,6 +4,7 @@ package com.gnome.gnome.utils;
  * A utility class for parsing and converting between a 2D ArrayList of Integers (representing a game map)
  * and its string representation for database storage.
  * The string format uses ';' to separate rows and ',' to separate values within each row.
+ * Maps are now stored with {@link MapCodec}; this format is only read for rows not yet converted.
  */
 public class MapParser {
 
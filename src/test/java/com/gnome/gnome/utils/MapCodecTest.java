@@ -0,0 +1,119 @@
+package com.gnome.gnome.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapCodecTest {
+
+    @Test
+    void roundTripsTypicalMap() {
+        int[][] map = new int[30][30];
+        for (int[] row : map) Arrays.fill(row, 1);
+        for (int i = 0; i < 30; i++) {
+            map[i][0] = 2;
+            map[i][29] = 2;
+        }
+        map[15][15] = 7;
+
+        byte[] encoded = MapCodec.encode(map);
+
+        assertTrue(MapCodec.isEncoded(encoded));
+        assertArrayEquals(map, MapCodec.decode(encoded));
+        assertTrue(encoded.length < MapParser.convertMapToString(map).length());
+    }
+
+    @Test
+    void roundTripsNegativeAndExtremeValues() {
+        int[][] map = {
+                {-1, 0, Integer.MIN_VALUE},
+                {Integer.MAX_VALUE, -300, 300}
+        };
+
+        assertArrayEquals(map, MapCodec.decode(MapCodec.encode(map)));
+    }
+
+    @Test
+    void roundTripsRandomMapWithDeflatedBody() {
+        Random random = new Random(42);
+        int[][] map = new int[200][300];
+        for (int[] row : map) {
+            for (int col = 0; col < row.length; col++) row[col] = random.nextInt(4);
+        }
+
+        byte[] encoded = MapCodec.encode(map);
+
+        assertEquals(MapCodec.FLAG_DEFLATE, encoded[3] & MapCodec.FLAG_DEFLATE);
+        assertArrayEquals(map, MapCodec.decode(encoded));
+    }
+
+    @Test
+    void roundTripsEmptyMap() {
+        assertEquals(0, MapCodec.decode(MapCodec.encode(new int[0][0])).length);
+    }
+
+    @Test
+    void rejectsRaggedOrOversizedMaps() {
+        assertThrows(IllegalArgumentException.class, () -> MapCodec.encode(new int[][]{{1, 2}, {3}}));
+        assertThrows(IllegalArgumentException.class, () -> MapCodec.encode(new int[1][MapCodec.MAX_DIMENSION + 1]));
+        assertThrows(IllegalArgumentException.class, () -> MapCodec.encode(null));
+    }
+
+    @Test
+    void rejectsHeaderWithHugeDimensionsBeforeAllocating() {
+        byte[] data = header(0, 46_000, 46_000);
+
+        assertThrows(IllegalArgumentException.class, () -> MapCodec.decode(data));
+    }
+
+    @Test
+    void rejectsUnknownVersionAndForeignData() {
+        byte[] encoded = MapCodec.encode(new int[][]{{1}});
+        encoded[2] = (byte) (MapCodec.VERSION + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> MapCodec.decode(encoded));
+        assertThrows(IllegalArgumentException.class, () -> MapCodec.decode("1,2,3".getBytes()));
+        assertFalse(MapCodec.isEncoded(null));
+    }
+
+    @Test
+    void rejectsTruncatedOrCorruptBody() {
+        byte[] encoded = MapCodec.encode(new int[][]{{1, 2, 3}, {4, 5, 6}});
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+        assertThrows(IllegalArgumentException.class, () -> MapCodec.decode(truncated));
+
+        // a single run longer than the 2x2 grid
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(header(0, 2, 2));
+        out.write(5);
+        out.write(0);
+        assertThrows(IllegalArgumentException.class, () -> MapCodec.decode(out.toByteArray()));
+    }
+
+    /**
+     * Builds a header by hand; both dimensions must fit in three varint bytes.
+     */
+    private static byte[] header(int flags, int rows, int cols) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('G');
+        out.write('M');
+        out.write(MapCodec.VERSION);
+        out.write(flags);
+        writeVarInt(out, rows);
+        writeVarInt(out, cols);
+        return out.toByteArray();
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}